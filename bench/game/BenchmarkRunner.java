@@ -0,0 +1,36 @@
+package game;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks under bench/ with the GC profiler, so each result also reports its
+ * allocation rate (gc.alloc.rate.norm is the bytes allocated per operation).
+ * <p>
+ * The benchmarks need jmh-core and jmh-generator-annprocess, with their dependencies
+ * jopt-simple and commons-math3, in lib/. Compile src/ and bench/ together with the
+ * annotation processor on the classpath, then run this class. Its optional argument is a
+ * regular expression selecting benchmarks, for example "GameModelBenchmark.updateGame".
+ * The benchmarks only use the API the original engine had, so a run on the unchanged engine
+ * gives the baseline to compare changes with. GameModelBenchmark times batches of calls from
+ * a freshly built model, so its scores are per batch rather than per call.
+ */
+public class BenchmarkRunner {
+    private BenchmarkRunner() {  }
+
+    /**
+     * Runs the selected benchmarks.
+     * @param args an optional regular expression selecting benchmarks, all are run by default.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "game\\..*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,141 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.Enemy;
+import game.core.HealthPowerUp;
+import game.core.ShieldPowerUp;
+import game.core.SpaceObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the GameModel tick phases on a default-sized board filled with objects.
+ * <p>
+ * Only the API the original engine already had is used, so the benchmark runs unchanged on
+ * the baseline engine and on later ones, and their results can be compared.<br>
+ * Each of these calls changes the model, by moving, removing or adding objects, so the model
+ * is rebuilt from the same seed before every iteration, and each iteration times one batch of
+ * BATCH calls from that state. The reported score is the time of a whole batch. updateGame is
+ * passed a new tick on every call, so each batch includes the same number of the ticks on
+ * which objects move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = GameModelBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = GameModelBenchmark.BATCH)
+@Fork(1)
+public class GameModelBenchmark {
+    /**
+     * The number of calls timed together, a multiple of the ticks between object moves.
+     */
+    public static final int BATCH = 100;
+
+    /**
+     * The shares of asteroids, enemies and power-ups in MIXED, in the ratio spawnObjects spawns
+     * them: an asteroid has weight 1, an enemy ENEMY_SPAWN_RATE and a power-up
+     * POWER_UP_SPAWN_RATE of it.
+     */
+    private static final double ASTEROID_SHARE =
+            1 / (1 + GameModel.ENEMY_SPAWN_RATE + GameModel.POWER_UP_SPAWN_RATE);
+    private static final double ENEMY_SHARE = GameModel.ENEMY_SPAWN_RATE * ASTEROID_SHARE;
+    private static final double POWER_UP_SHARE = GameModel.POWER_UP_SPAWN_RATE * ASTEROID_SHARE;
+
+    /**
+     * The kinds of objects placed on the board.
+     */
+    public enum Mix {
+        /** Only asteroids. */
+        ASTEROIDS,
+        /** Only enemies. */
+        ENEMIES,
+        /** Asteroids with a bullet in every other cell, so checkCollisions finds hits. */
+        BULLETS,
+        /**
+         * Asteroids, enemies and power-ups in the proportions spawnObjects produces, with the
+         * power-ups split evenly between health and shield.
+         */
+        MIXED
+    }
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int objects;
+
+    @Param({"ASTEROIDS", "ENEMIES", "BULLETS", "MIXED"})
+    public Mix mix;
+
+    private GameModel model;
+    private int tick;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        model = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+        model.setRandomSeed(1);
+        Random random = new Random(42);
+        for (int i = 0; i < objects; i++) {
+            int x = random.nextInt(GameModel.GAME_WIDTH);
+            int y = random.nextInt(GameModel.GAME_HEIGHT);
+            model.addObject(objectAt(i, x, y, random));
+        }
+        tick = 0;
+    }
+
+    private SpaceObject objectAt(int i, int x, int y, Random random) {
+        return switch (mix) {
+            case ASTEROIDS -> new Asteroid(x, y);
+            case ENEMIES -> new Enemy(x, y);
+            case BULLETS -> i % 2 == 0 ? new Asteroid(x, y) : new Bullet(x, y);
+            case MIXED -> {
+                double roll = random.nextDouble();
+                if (roll < ASTEROID_SHARE) {
+                    yield new Asteroid(x, y);
+                } else if (roll < ASTEROID_SHARE + ENEMY_SHARE) {
+                    yield new Enemy(x, y);
+                }
+                yield roll < 1 - POWER_UP_SHARE / 2
+                        ? new HealthPowerUp(x, y) : new ShieldPowerUp(x, y);
+            }
+        };
+    }
+
+    @Benchmark
+    public List<SpaceObject> updateGame() {
+        // Objects move on every tenth tick, so a batch of BATCH ticks moves them BATCH / 10 times
+        model.updateGame(++tick);
+        return model.getSpaceObjects();
+    }
+
+    @Benchmark
+    public List<SpaceObject> checkCollisions() {
+        model.checkCollisions();
+        return model.getSpaceObjects();
+    }
+
+    @Benchmark
+    public List<SpaceObject> spawnObjects() {
+        model.spawnObjects();
+        return model.getSpaceObjects();
+    }
+
+    @Benchmark
+    public List<SpaceObject> fireBullet() {
+        model.fireBullet();
+        return model.getSpaceObjects();
+    }
+}
@@ -0,0 +1,108 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.SpaceObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the cost of removing objects from a GameModel grows with the number removed.
+ * <p>
+ * For each size n, two cases are timed on the default board:
+ * <ul>
+ *     <li>updateGame() after a wave of n bullets, interleaved with n asteroids, all leave the
+ *     top of the board on the same tick.</li>
+ *     <li>checkCollisions() with n bullets, each in the cell of an asteroid, so n bullets are
+ *     removed by a single check.</li>
+ * </ul>
+ * A single call removes the whole wave, so the model is rebuilt before every iteration and
+ * each iteration times that one call. Linear removal shows as a score that roughly doubles
+ * as n doubles.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+public class RemovalBenchmark {
+
+    /**
+     * A model with a wave of n bullets and n asteroids, checked after every iteration to
+     * still hold exactly the n asteroids.
+     */
+    @State(Scope.Thread)
+    public abstract static class Wave {
+        @Param({"1250", "2500", "5000", "10000"})
+        public int n;
+
+        GameModel model;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            model = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+            for (int i = 0; i < n; i++) {
+                int x = i % GameModel.GAME_WIDTH;
+                model.addObject(new Asteroid(x, 5));
+                model.addObject(new Bullet(x, bulletRow()));
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void check() {
+            if (model.getSpaceObjects().size() != n) {
+                throw new IllegalStateException("Expected " + n + " objects to remain, found "
+                        + model.getSpaceObjects().size());
+            }
+        }
+
+        abstract int bulletRow();
+    }
+
+    /**
+     * Bullets on the top row, which leave the board on the next tick.
+     */
+    public static class Leaving extends Wave {
+        @Override
+        int bulletRow() {
+            return 0;
+        }
+    }
+
+    /**
+     * Bullets in the cells of the asteroids.
+     */
+    public static class Hitting extends Wave {
+        @Override
+        int bulletRow() {
+            return 5;
+        }
+    }
+
+    @Benchmark
+    public List<SpaceObject> updateGame(Leaving wave) {
+        wave.model.updateGame(1);
+        return wave.model.getSpaceObjects();
+    }
+
+    @Benchmark
+    public List<SpaceObject> checkCollisions(Hitting wave) {
+        wave.model.checkCollisions();
+        return wave.model.getSpaceObjects();
+    }
+}
@@ -0,0 +1,93 @@
+package game.achievements;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures AchievementManager.updateAchievement() and logAchievementMastered() with many
+ * registered achievements.
+ * <p>
+ * The manager saves to an in-memory AchievementFile, so only the manager's own work is
+ * measured. Every achievement is mastered and logged during setup, so
+ * logAchievementMastered() measures the steady state in which each mastered achievement has
+ * already been logged.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AchievementManagerBenchmark {
+    @Param({"3", "100", "10000"})
+    public int achievements;
+
+    private AchievementManager manager;
+    private String[] names;
+    private Achievement[] registered;
+    private int next;
+
+    /**
+     * An AchievementFile that keeps saved data in memory.
+     */
+    private static class MemoryFile implements AchievementFile {
+        private final List<String> saved = new ArrayList<>();
+
+        public void setFileLocation(String fileLocation) {}
+
+        public String getFileLocation() {
+            return DEFAULT_LOCATION;
+        }
+
+        public void save(String data) {
+            saved.add(data);
+        }
+
+        public List<String> read() {
+            return saved;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new AchievementManager(new MemoryFile());
+        names = new String[achievements];
+        registered = new Achievement[achievements];
+        for (int i = 0; i < achievements; i++) {
+            names[i] = "Achievement " + i;
+            registered[i] = new GameAchievement(names[i], "Benchmark achievement.");
+            manager.addAchievement(registered[i]);
+            manager.updateAchievement(names[i], 1.0);
+        }
+        manager.logAchievementMastered();
+    }
+
+    @Benchmark
+    public double updateAchievement() {
+        int index = next;
+        next = (next + 1) % names.length;
+        // Stay at Master, as progress never goes back down during a game
+        manager.updateAchievement(names[index], 1.0);
+        return registered[index].getProgress();
+    }
+
+    @Benchmark
+    public AchievementManager logAchievementMastered() {
+        manager.logAchievementMastered();
+        return manager;
+    }
+}
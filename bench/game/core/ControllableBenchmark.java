@@ -0,0 +1,58 @@
+package game.core;
+
+import game.GameModel;
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Controllable.move() on the default board, both for moves within the board and for
+ * moves into its edge, which throw a BoundaryExceededException.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllableBenchmark {
+    private Ship ship;
+    private Ship cornered;
+    private boolean left;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ship = new Ship(GameModel.GAME_WIDTH / 2, GameModel.GAME_HEIGHT / 2, 100);
+        cornered = new Ship(0, 0, 100);
+    }
+
+    @Benchmark
+    public int moveWithinBoard() {
+        // Alternate so the ship stays in the middle of the board
+        left = !left;
+        ship.move(left ? Direction.LEFT : Direction.RIGHT);
+        return ship.getX();
+    }
+
+    @Benchmark
+    public Object moveIntoEdge() {
+        try {
+            cornered.move(Direction.LEFT);
+            return cornered;
+        } catch (BoundaryExceededException error) {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package game;
+
+/**
+ * A fixed-size set of board cells, stored as a bitmask in four long words.
+ * <p>
+ * Cell y * width + x holds the cell (x, y), so a board of up to MAX_CELLS cells, such as the
+ * default 10 by 20 board, fits in a single Bitboard. Moving every cell of the set one row
+ * down or up is a shift by the board width. Every operation works in place and allocates
+ * nothing.
+ */
+public class Bitboard {
+    /**
+     * The largest number of cells a Bitboard can hold.
+     */
+    public static final int MAX_CELLS = 4 * Long.SIZE;
+
+    private final long[] words = new long[4];
+    private final int cells;
+    private final int lastWord; // Index of the word holding the last cell
+    private final long lastMask; // Bits of the last word that hold cells
+
+    /**
+     * Creates an empty Bitboard of the given number of cells.
+     *
+     * @param cells the number of cells.
+     * @throws IllegalArgumentException if cells is not between 1 and MAX_CELLS.
+     */
+    public Bitboard(int cells) {
+        if (cells < 1 || cells > MAX_CELLS) {
+            throw new IllegalArgumentException("A Bitboard holds 1 to " + MAX_CELLS
+                    + " cells, not " + cells);
+        }
+        this.cells = cells;
+        lastWord = (cells - 1) / Long.SIZE;
+        lastMask = -1L >>> (Long.SIZE - 1 - (cells - 1) % Long.SIZE);
+    }
+
+    /**
+     * Returns the number of cells of this Bitboard.
+     *
+     * @return the number of cells.
+     */
+    public int getCells() {
+        return cells;
+    }
+
+    /**
+     * Checks whether the cell is in the set.
+     *
+     * @param cell the cell.
+     * @return true if the cell is set, false otherwise.
+     * @requires 0 <= cell < getCells()
+     */
+    public boolean get(int cell) {
+        return (words[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Adds the cell to the set.
+     *
+     * @param cell the cell.
+     * @requires 0 <= cell < getCells()
+     */
+    public void set(int cell) {
+        words[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Removes the cell from the set.
+     *
+     * @param cell the cell.
+     * @requires 0 <= cell < getCells()
+     */
+    public void clear(int cell) {
+        words[cell >>> 6] &= ~(1L << cell);
+    }
+
+    /**
+     * Removes every cell from the set.
+     */
+    public void clear() {
+        words[0] = 0;
+        words[1] = 0;
+        words[2] = 0;
+        words[3] = 0;
+    }
+
+    /**
+     * Checks whether the set is empty.
+     *
+     * @return true if no cell is set, false otherwise.
+     */
+    public boolean isEmpty() {
+        return (words[0] | words[1] | words[2] | words[3]) == 0;
+    }
+
+    /**
+     * Returns the number of cells in the set.
+     *
+     * @return the number of set cells.
+     */
+    public int cardinality() {
+        return Long.bitCount(words[0]) + Long.bitCount(words[1]) + Long.bitCount(words[2])
+                + Long.bitCount(words[3]);
+    }
+
+    /**
+     * Returns the first set cell at or after the given cell.
+     *
+     * @param from the cell to start from.
+     * @return the first set cell >= from, or -1 if there is none.
+     * @requires from >= 0
+     */
+    public int nextSetBit(int from) {
+        int word = from >>> 6;
+        if (word > lastWord) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word > lastWord) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Replaces this set with a copy of the other.
+     *
+     * @param other the set to copy.
+     * @requires other != null && other.getCells() == getCells()
+     */
+    public void copyFrom(Bitboard other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Adds every cell of the other set to this set.
+     *
+     * @param other the set to add.
+     * @requires other != null && other.getCells() == getCells()
+     */
+    public void or(Bitboard other) {
+        words[0] |= other.words[0];
+        words[1] |= other.words[1];
+        words[2] |= other.words[2];
+        words[3] |= other.words[3];
+    }
+
+    /**
+     * Keeps only the cells that are also in the other set.
+     *
+     * @param other the set to intersect with.
+     * @requires other != null && other.getCells() == getCells()
+     */
+    public void and(Bitboard other) {
+        words[0] &= other.words[0];
+        words[1] &= other.words[1];
+        words[2] &= other.words[2];
+        words[3] &= other.words[3];
+    }
+
+    /**
+     * Removes every cell of the other set from this set.
+     *
+     * @param other the set to remove.
+     * @requires other != null && other.getCells() == getCells()
+     */
+    public void andNot(Bitboard other) {
+        words[0] &= ~other.words[0];
+        words[1] &= ~other.words[1];
+        words[2] &= ~other.words[2];
+        words[3] &= ~other.words[3];
+    }
+
+    /**
+     * Checks whether this set and the other share a cell.
+     *
+     * @param other the set to test against.
+     * @return true if a cell is in both sets, false otherwise.
+     * @requires other != null && other.getCells() == getCells()
+     */
+    public boolean intersects(Bitboard other) {
+        return ((words[0] & other.words[0]) | (words[1] & other.words[1])
+                | (words[2] & other.words[2]) | (words[3] & other.words[3])) != 0;
+    }
+
+    /**
+     * Moves every cell to the cell distance higher, dropping cells moved past the last cell.
+     * On a board of width w, shiftDown(w) moves every cell one row down.
+     *
+     * @param distance the number of cells to move by.
+     * @requires 0 < distance < 64
+     */
+    public void shiftDown(int distance) {
+        int carry = Long.SIZE - distance;
+        words[3] = (words[3] << distance) | (words[2] >>> carry);
+        words[2] = (words[2] << distance) | (words[1] >>> carry);
+        words[1] = (words[1] << distance) | (words[0] >>> carry);
+        words[0] <<= distance;
+        words[lastWord] &= lastMask;
+        for (int word = lastWord + 1; word < words.length; word++) {
+            words[word] = 0;
+        }
+    }
+
+    /**
+     * Moves every cell to the cell distance lower, dropping cells moved before cell 0.
+     * On a board of width w, shiftUp(w) moves every cell one row up.
+     *
+     * @param distance the number of cells to move by.
+     * @requires 0 < distance < 64
+     */
+    public void shiftUp(int distance) {
+        int carry = Long.SIZE - distance;
+        words[0] = (words[0] >>> distance) | (words[1] << carry);
+        words[1] = (words[1] >>> distance) | (words[2] << carry);
+        words[2] = (words[2] >>> distance) | (words[3] << carry);
+        words[3] >>>= distance;
+    }
+}
@@ -0,0 +1,320 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.events.GameEventType;
+import game.utility.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A GameModel that stores the occupancy of each kind of object as a Bitboard, for boards of
+ * up to Bitboard.MAX_CELLS cells such as the default 10 by 20 board.
+ * <p>
+ * Asteroids, Enemies and PowerUps are spawned only into free cells and all move together, so
+ * no two of them ever share a cell and one bit per cell holds them exactly. Bullets can share
+ * a cell, so they are stored in layers: layer k holds the cells with more than k Bullets.<br>
+ * updateGame() moves whole populations with one shift per Bitboard, and checkCollisions()
+ * finds every hit with a few ANDs, with the same game state as GameModel. SpaceObject views
+ * are only materialised by getSpaceObjects(), grouped by kind rather than in the order the
+ * objects were added.
+ */
+public class BitboardGameModel extends GameModel {
+    private final int cells; // Number of cells on the board
+    private final Bitboard ship; // The ship's cell, as of the last collision check
+    private final List<Bitboard> bullets = new ArrayList<>(); // Layer k: cells with > k bullets
+    private int bulletLayers; // Number of layers in use
+    private final Bitboard asteroids;
+    private final Bitboard enemies;
+    private final Bitboard healthPowerUps;
+    private final Bitboard shieldPowerUps;
+    private final Bitboard targets; // Scratch: cells a bullet can hit
+    private final Bitboard hits; // Scratch: cells where a bullet hits an enemy
+    private final Bitboard layerHits; // Scratch: hits by the bullets of one layer
+    private final HealthPowerUp healthEffect = new HealthPowerUp(0, 0); // Applied on pickup
+    private final ShieldPowerUp shieldEffect = new ShieldPowerUp(0, 0);
+
+    /**
+     * Constructs a new BitboardGameModel on a GAME_WIDTH by GAME_HEIGHT board.
+     *
+     * @param logger a functional interface for passing information between classes.
+     * @param statsTracker a PlayerStatsTracker instance to record stats.
+     * @requires logger != null && statsTracker != null
+     */
+    public BitboardGameModel(Logger logger, PlayerStatsTracker statsTracker) {
+        this(logger, statsTracker, GAME_WIDTH, GAME_HEIGHT);
+    }
+
+    /**
+     * Constructs a new BitboardGameModel on a board of the given size.
+     *
+     * @param logger a functional interface for passing information between classes.
+     * @param statsTracker a PlayerStatsTracker instance to record stats.
+     * @param width the board width.
+     * @param height the board height.
+     * @throws IllegalArgumentException if the board has more than Bitboard.MAX_CELLS cells,
+     *                                  or is 64 or more cells wide.
+     * @requires logger != null && statsTracker != null && width > 0 && height > 0
+     */
+    public BitboardGameModel(Logger logger, PlayerStatsTracker statsTracker,
+                             int width, int height) {
+        super(logger, statsTracker, width, height);
+        if (width >= Long.SIZE || (long) width * height > Bitboard.MAX_CELLS) {
+            throw new IllegalArgumentException("A " + width + " by " + height
+                    + " board does not fit in a Bitboard");
+        }
+        cells = width * height;
+        ship = new Bitboard(cells);
+        asteroids = new Bitboard(cells);
+        enemies = new Bitboard(cells);
+        healthPowerUps = new Bitboard(cells);
+        shieldPowerUps = new Bitboard(cells);
+        targets = new Bitboard(cells);
+        hits = new Bitboard(cells);
+        layerHits = new Bitboard(cells);
+    }
+
+    /**
+     * Returns the cell index of the coordinate.
+     */
+    private int cellOf(int x, int y) {
+        return y * getWidth() + x;
+    }
+
+    /**
+     * Returns views of all SpaceObjects in the game, grouped by kind.
+     * The returned list is a snapshot, changes to it do not affect the game.
+     *
+     * @return a new list of views of all spaceObjects.
+     */
+    @Override
+    public List<SpaceObject> getSpaceObjects() {
+        List<SpaceObject> views = new ArrayList<>();
+        for (int layer = 0; layer < bulletLayers; layer++) {
+            addViews(views, bullets.get(layer), EntityStore.BULLET);
+        }
+        addViews(views, asteroids, EntityStore.ASTEROID);
+        addViews(views, enemies, EntityStore.ENEMY);
+        addViews(views, healthPowerUps, EntityStore.HEALTH_POWER_UP);
+        addViews(views, shieldPowerUps, EntityStore.SHIELD_POWER_UP);
+        return views;
+    }
+
+    private void addViews(List<SpaceObject> views, Bitboard board, byte kind) {
+        for (int cell = board.nextSetBit(0); cell >= 0; cell = board.nextSetBit(cell + 1)) {
+            views.add(view(kind, cell % getWidth(), cell / getWidth()));
+        }
+    }
+
+    private static SpaceObject view(byte kind, int x, int y) {
+        return switch (kind) {
+            case EntityStore.BULLET -> new Bullet(x, y);
+            case EntityStore.ASTEROID -> new Asteroid(x, y);
+            case EntityStore.ENEMY -> new Enemy(x, y);
+            case EntityStore.HEALTH_POWER_UP -> new HealthPowerUp(x, y);
+            default -> new ShieldPowerUp(x, y);
+        };
+    }
+
+    /**
+     * Adds a SpaceObject to the game by setting its cell in the Bitboard for its kind.
+     * Objects obtained from the object pool are released straight back to it.
+     *
+     * @param object the SpaceObject to be added to the game.
+     * @throws IllegalArgumentException if the object is not a Bullet, Asteroid, Enemy or
+     *                                  PowerUp, is off the board, or is not a Bullet and its
+     *                                  cell already holds an object other than a Bullet.
+     * @requires object != null.
+     */
+    @Override
+    public void addObject(SpaceObject object) {
+        if (!isOnBoard(object)) {
+            throw new IllegalArgumentException(object + " is off the board");
+        }
+        int cell = cellOf(object.getX(), object.getY());
+        byte kind = EntityStore.kindOf(object);
+        if (kind == EntityStore.BULLET) {
+            addBullet(cell);
+        } else {
+            Bitboard board = switch (kind) {
+                case EntityStore.ASTEROID -> asteroids;
+                case EntityStore.ENEMY -> enemies;
+                case EntityStore.HEALTH_POWER_UP -> healthPowerUps;
+                case EntityStore.SHIELD_POWER_UP -> shieldPowerUps;
+                default -> throw new IllegalArgumentException("Cannot store " + object);
+            };
+            if (holdsDescending(cell)) {
+                throw new IllegalArgumentException("The cell of " + object + " is taken");
+            }
+            board.set(cell);
+        }
+        getObjectPool().release(object);
+    }
+
+    private void addBullet(int cell) {
+        int layer = 0;
+        while (layer < bulletLayers && bullets.get(layer).get(cell)) {
+            layer++;
+        }
+        if (layer == bulletLayers) {
+            if (layer == bullets.size()) {
+                bullets.add(new Bitboard(cells));
+            }
+            bulletLayers++;
+        }
+        bullets.get(layer).set(cell);
+    }
+
+    private boolean holdsDescending(int cell) {
+        return asteroids.get(cell) || enemies.get(cell) || healthPowerUps.get(cell)
+                || shieldPowerUps.get(cell);
+    }
+
+    /**
+     * Removes every SpaceObject from the game.
+     */
+    @Override
+    public void clearObjects() {
+        for (int layer = 0; layer < bulletLayers; layer++) {
+            bullets.get(layer).clear();
+        }
+        bulletLayers = 0;
+        asteroids.clear();
+        enemies.clear();
+        healthPowerUps.clear();
+        shieldPowerUps.clear();
+    }
+
+    /**
+     * Fires a Bullet from the ship's current position without allocating an object.
+     *
+     * @requires getShip() != null
+     */
+    @Override
+    public void fireBullet() {
+        addBullet(cellOf(getShip().getX(), getShip().getY()));
+        publish(GameEventType.SHOT_FIRED, EntityStore.BULLET, getShip().getX(),
+                getShip().getY(), 0, 0);
+    }
+
+    /**
+     * Checks if the coordinate holds neither the ship nor any object.
+     *
+     * @param x the x-axis parameter
+     * @param y the y-axis parameter
+     * @return true if the coordinate is free, false otherwise
+     */
+    @Override
+    protected boolean coordinateFree(int x, int y) {
+        Ship ship = getShip();
+        if (ship.getX() == x && ship.getY() == y) {
+            return false;
+        }
+        int cell = cellOf(x, y);
+        return !holdsDescending(cell) && (bulletLayers == 0 || !bullets.get(0).get(cell));
+    }
+
+    /**
+     * Moves every Bullet up one row, and every Asteroid, Enemy and PowerUp down one row on the
+     * ticks they move. Objects shifted off the board are dropped by the shift.
+     *
+     * @param tick the tick value used to decide which objects move.
+     */
+    @Override
+    public void updateGame(int tick) {
+        int width = getWidth();
+        for (int layer = 0; layer < bulletLayers; layer++) {
+            bullets.get(layer).shiftUp(width);
+        }
+        trimBulletLayers();
+        if (tick % DescendingEnemy.CADENCE == 0) {
+            asteroids.shiftDown(width);
+            enemies.shiftDown(width);
+        }
+        if (tick % PowerUp.CADENCE == 0) {
+            healthPowerUps.shiftDown(width);
+            shieldPowerUps.shiftDown(width);
+        }
+    }
+
+    /**
+     * Advances the game by one tick through this model's own updateGame(), checkCollisions(),
+     * spawnObjects() and levelUp().
+     *
+     * @param tick the tick value used to decide which objects move.
+     */
+    @Override
+    public void advance(int tick) {
+        updateGame(tick);
+        checkCollisions();
+        spawnObjects();
+        levelUp();
+    }
+
+    /**
+     * Detects and handles collisions between the ship, bullets and other objects, with the
+     * same result as GameModel.checkCollisions().
+     * Every hit is found against the occupancy before any removal, as objects hit during
+     * GameModel's pass still take part in the rest of the pass.
+     *
+     * @requires getShip() != null
+     */
+    @Override
+    public void checkCollisions() {
+        Ship player = getShip();
+        int shipCell = cellOf(player.getX(), player.getY());
+        ship.clear();
+        ship.set(shipCell);
+
+        if (bulletLayers > 0) {
+            targets.copyFrom(asteroids);
+            targets.or(enemies);
+            // Layer 0 holds every cell with a bullet, so it finds every enemy that is hit
+            hits.copyFrom(bullets.get(0));
+            hits.and(enemies);
+            // Every bullet in a cell with an enemy hits it
+            for (int layer = 0; layer < bulletLayers && !hits.isEmpty(); layer++) {
+                layerHits.copyFrom(bullets.get(layer));
+                layerHits.and(hits);
+                for (int cell = layerHits.nextSetBit(0); cell >= 0;
+                        cell = layerHits.nextSetBit(cell + 1)) {
+                    recordShotHit(cell % getWidth(), cell / getWidth());
+                }
+            }
+        }
+
+        if (ship.intersects(asteroids)) {
+            handleAsteroidCollision();
+            asteroids.clear(shipCell);
+        } else if (ship.intersects(enemies)) {
+            handleEnemyCollision();
+            enemies.clear(shipCell);
+        } else if (ship.intersects(healthPowerUps)) {
+            powerUpCollection(healthEffect, EntityStore.HEALTH_POWER_UP, player.getX(),
+                    player.getY());
+            healthPowerUps.clear(shipCell);
+        } else if (ship.intersects(shieldPowerUps)) {
+            powerUpCollection(shieldEffect, EntityStore.SHIELD_POWER_UP, player.getX(),
+                    player.getY());
+            shieldPowerUps.clear(shipCell);
+        }
+
+        if (bulletLayers > 0) {
+            enemies.andNot(hits);
+            for (int layer = 0; layer < bulletLayers; layer++) {
+                bullets.get(layer).andNot(targets);
+            }
+            trimBulletLayers();
+        }
+    }
+
+    /**
+     * Drops empty layers from the top, layer k is only empty if every layer above it is.
+     */
+    private void trimBulletLayers() {
+        while (bulletLayers > 0 && bullets.get(bulletLayers - 1).isEmpty()) {
+            bulletLayers--;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * A set of board cells (x, y) that remembers the order cells were first added in.
+ * <p>
+ * Backed by a CellTable, so adding, testing and clearing cost depends only on the number of
+ * cells in the set, not on the size of the board.
+ */
+public class CellSet {
+    private final CellTable cellTable = new CellTable(); // Cell to position in xs and ys
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int size;
+
+    /**
+     * Creates an empty set.
+     */
+    public CellSet() {  }
+
+    /**
+     * Returns the number of cells in the set.
+     *
+     * @return the number of cells.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds the cell to the set if it is not already present.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return true if the cell was added, false if it was already present.
+     */
+    public boolean add(int x, int y) {
+        if (cellTable.get(x, y) != CellTable.ABSENT) {
+            return false;
+        }
+        if (size == xs.length) {
+            xs = Arrays.copyOf(xs, size * 2);
+            ys = Arrays.copyOf(ys, size * 2);
+        }
+        cellTable.put(x, y, size);
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+        return true;
+    }
+
+    /**
+     * Checks whether the cell is in the set.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return true if (x, y) is in the set, false otherwise.
+     */
+    public boolean contains(int x, int y) {
+        return cellTable.get(x, y) != CellTable.ABSENT;
+    }
+
+    /**
+     * Returns the x coordinate of the i-th cell added.
+     *
+     * @param i the position of the cell, in the order cells were added.
+     * @return the x coordinate.
+     * @requires 0 <= i < size()
+     */
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    /**
+     * Returns the y coordinate of the i-th cell added.
+     *
+     * @param i the position of the cell, in the order cells were added.
+     * @return the y coordinate.
+     * @requires 0 <= i < size()
+     */
+    public int getY(int i) {
+        return ys[i];
+    }
+
+    /**
+     * Removes every cell from the set.
+     */
+    public void clear() {
+        cellTable.clear();
+        size = 0;
+    }
+}
@@ -0,0 +1,169 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash table from board cells (x, y) to non-negative int values.
+ * <p>
+ * Memory and clear() cost grow with the number of cells with an entry, not with the size of
+ * the board, so large boards cost no more than small ones with the same number of objects.
+ * Entries can be removed one at a time with remove(), or all at once with clear().
+ */
+public class CellTable {
+    /**
+     * The value returned for a cell that has no entry.
+     */
+    public static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] keys;
+    private int[] values;
+    private int[] usedSlots;
+    private int[] usedIndex; // Slot to its position in usedSlots
+    private int size;
+    private int mask;
+
+    /**
+     * Creates an empty table.
+     */
+    public CellTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of cells with an entry.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value stored for the cell.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the value for (x, y), or ABSENT if there is none.
+     */
+    public int get(int x, int y) {
+        long key = key(x, y);
+        for (int slot = slotOf(x, y); values[slot] != ABSENT; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Stores a value for the cell, replacing any previous value.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param value the value to store.
+     * @requires value >= 0
+     */
+    public void put(int x, int y, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        long key = key(x, y);
+        int slot = slotOf(x, y);
+        while (values[slot] != ABSENT) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        usedIndex[slot] = size;
+        usedSlots[size++] = slot;
+    }
+
+    /**
+     * Removes the entry for the cell, if there is one.
+     * Later entries in the probe sequence are shifted back, so lookups stay correct without
+     * leaving deleted markers behind.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the value that was stored for (x, y), or ABSENT if there was none.
+     */
+    public int remove(int x, int y) {
+        long key = key(x, y);
+        int hole = slotOf(x, y);
+        while (values[hole] != ABSENT && keys[hole] != key) {
+            hole = (hole + 1) & mask;
+        }
+        int removed = values[hole];
+        if (removed == ABSENT) {
+            return ABSENT;
+        }
+        // Fill the removed slot's place in usedSlots with the last used slot
+        int last = usedSlots[--size];
+        usedSlots[usedIndex[hole]] = last;
+        usedIndex[last] = usedIndex[hole];
+        values[hole] = ABSENT;
+        for (int slot = (hole + 1) & mask; values[slot] != ABSENT; slot = (slot + 1) & mask) {
+            int home = slotOf((int) (keys[slot] >> 32), (int) keys[slot]);
+            boolean reachable = hole <= slot
+                    ? hole < home && home <= slot
+                    : hole < home || home <= slot;
+            if (reachable) {
+                continue; // The entry is still found from its home slot
+            }
+            keys[hole] = keys[slot];
+            values[hole] = values[slot];
+            usedIndex[hole] = usedIndex[slot];
+            usedSlots[usedIndex[hole]] = hole;
+            values[slot] = ABSENT;
+            hole = slot;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every entry, visiting only the slots in use.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            values[usedSlots[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private int slotOf(int x, int y) {
+        int hash = x * 0x9E3779B1 + y * 0x85EBCA77;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, ABSENT);
+        usedSlots = new int[capacity / 2];
+        usedIndex = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldUsed = usedSlots;
+        int oldSize = size;
+        allocate(keys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldSize; i++) {
+            long key = oldKeys[oldUsed[i]];
+            put((int) (key >> 32), (int) key, oldValues[oldUsed[i]]);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.events.GameEventType;
+import game.utility.Logger;
+
+import java.util.List;
+
+/**
+ * A GameModel backed by a structure-of-arrays EntityStore instead of a list of objects.
+ * <p>
+ * updateGame() and checkCollisions() run as loops over the store's primitive arrays and
+ * produce the same game state as GameModel. SpaceObject views are only materialised on demand
+ * by getSpaceObjects(), e.g. for GameController.renderGame().
+ */
+public class CompactGameModel extends GameModel {
+    private final EntityStore store; // Every space object, excluding the ship
+
+    /**
+     * Constructs a new CompactGameModel with an empty EntityStore over the game board.
+     *
+     * @param logger a functional interface for passing information between classes.
+     * @param statsTracker a PlayerStatsTracker instance to record stats.
+     * @requires logger != null && statsTracker != null
+     */
+    public CompactGameModel(Logger logger, PlayerStatsTracker statsTracker) {
+        this(logger, statsTracker, GAME_WIDTH, GAME_HEIGHT);
+    }
+
+    /**
+     * Constructs a new CompactGameModel on a board of the given size.
+     *
+     * @param logger a functional interface for passing information between classes.
+     * @param statsTracker a PlayerStatsTracker instance to record stats.
+     * @param width the board width.
+     * @param height the board height.
+     * @requires logger != null && statsTracker != null && width > 0 && height > 0
+     */
+    public CompactGameModel(Logger logger, PlayerStatsTracker statsTracker,
+                            int width, int height) {
+        super(logger, statsTracker, width, height);
+        store = new EntityStore(width, height);
+    }
+
+    /**
+     * Returns the entity store backing this model.
+     *
+     * @return the entity store.
+     */
+    public EntityStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns views of all SpaceObjects in the game.
+     * The returned list is a snapshot, changes to it do not affect the game.
+     *
+     * @return a new list of views of all spaceObjects.
+     */
+    @Override
+    public List<SpaceObject> getSpaceObjects() {
+        return store.views();
+    }
+
+    /**
+     * Adds a SpaceObject to the game by unpacking it into the store.
+     * Objects obtained from the object pool are released straight back to it.
+     *
+     * @param object the SpaceObject to be added to the game.
+     * @requires object != null.
+     */
+    @Override
+    public void addObject(SpaceObject object) {
+        store.add(object);
+        getObjectPool().release(object);
+    }
+
+    /**
+     * Removes every SpaceObject from the game.
+     */
+    @Override
+    public void clearObjects() {
+        store.clear();
+    }
+
+    /**
+     * Fires a Bullet from the ship's current position without allocating an object.
+     *
+     * @requires getShip() != null
+     */
+    @Override
+    public void fireBullet() {
+        store.add(EntityStore.BULLET, getShip().getX(), getShip().getY());
+        publish(GameEventType.SHOT_FIRED, EntityStore.BULLET, getShip().getX(),
+                getShip().getY(), 0, 0);
+    }
+
+    @Override
+    protected boolean coordinateFree(int x, int y) {
+        Ship ship = getShip();
+        return !(ship.getX() == x && ship.getY() == y) && !store.isOccupied(x, y);
+    }
+
+    /**
+     * Moves all entities and removes those that leave the board.
+     *
+     * @param tick the tick value used to decide which entities move.
+     */
+    @Override
+    public void updateGame(int tick) {
+        store.tick(tick);
+        store.sweep();
+    }
+
+    /**
+     * Advances the game by one tick through this model's own updateGame(), checkCollisions(),
+     * spawnObjects() and levelUp(), whose passes already run over the store's arrays.
+     *
+     * @param tick the tick value used to decide which entities move.
+     */
+    @Override
+    public void advance(int tick) {
+        updateGame(tick);
+        checkCollisions();
+        spawnObjects();
+        levelUp();
+    }
+
+    /**
+     * Detects and handles collisions between the ship, bullets and other entities,
+     * following the same rules and order as GameModel.checkCollisions().
+     * Entities hit during the pass still take part in the rest of the pass.
+     *
+     * @requires getShip() != null
+     */
+    @Override
+    public void checkCollisions() {
+        Ship ship = getShip();
+        int shipX = ship.getX();
+        int shipY = ship.getY();
+        store.sweep();
+        store.buildGrid();
+
+        int count = store.size();
+        for (int i = 0; i < count; i++) {
+            byte kind = store.getKind(i);
+            int x = store.getX(i);
+            int y = store.getY(i);
+            if (kind == EntityStore.SHIP) {
+                continue;
+            }
+            if (kind == EntityStore.BULLET) {
+                bulletCollision(i, x, y);
+            } else if (x == shipX && y == shipY) {
+                shipCollision(i);
+            }
+        }
+        store.sweep();
+    }
+
+    /**
+     * Applies the effect of the entity in the slot hitting the ship and removes it.
+     */
+    private void shipCollision(int slot) {
+        switch (store.view(slot)) {
+            case PowerUp powerUp -> powerUpCollection(powerUp, powerUp);
+            case Asteroid asteroid -> handleAsteroidCollision();
+            case Enemy enemy -> handleEnemyCollision();
+            default -> { }
+        }
+        store.remove(slot);
+    }
+
+    /**
+     * Removes the bullet in the slot if it hits an Asteroid or Enemy, and the Enemy as well.
+     */
+    private void bulletCollision(int slot, int x, int y) {
+        int target = store.firstTargetAt(x, y, slot);
+        if (target < 0) {
+            return;
+        }
+        store.remove(slot);
+        if (store.getKind(target) == EntityStore.ENEMY) {
+            store.remove(target);
+            recordShotHit(x, y);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package game;
+
+import game.core.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A structure-of-arrays store of the SpaceObjects in a game.
+ * <p>
+ * The position, kind and liveness of every entity are kept in parallel primitive arrays,
+ * indexed by slot, so ticking and collision checks run as loops over arrays rather than
+ * through one heap object and virtual call per entity.<br>
+ * Slots are kept in insertion order; removed entities are flagged and compacted out in a
+ * single stable pass by sweep().<br>
+ * Occupancy is answered from per-cell lists of slots. They are rebuilt in one pass after
+ * entities move or are compacted, and kept current as entities are added, so spawning into a
+ * free cell does not scan the store.<br>
+ * Objects whose class is not one of the built-in entity types are stored as foreign entities,
+ * their tick() is still called and their position is read back into the arrays.
+ */
+public class EntityStore {
+    /** Kind of a Bullet, moves up every tick. */
+    public static final byte BULLET = 0;
+    /** Kind of an Asteroid, moves down every tenth tick. */
+    public static final byte ASTEROID = 1;
+    /** Kind of an Enemy, moves down every tenth tick. */
+    public static final byte ENEMY = 2;
+    /** Kind of a HealthPowerUp, moves down every tenth tick. */
+    public static final byte HEALTH_POWER_UP = 3;
+    /** Kind of a ShieldPowerUp, moves down every tenth tick. */
+    public static final byte SHIELD_POWER_UP = 4;
+    /** Kind of a Ship stored as an entity, never collides. */
+    public static final byte SHIP = 5;
+    /** Kind of any other SpaceObject. */
+    public static final byte OTHER = 6;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_SLOT = CellTable.ABSENT;
+
+    private final int width;
+    private final int height;
+
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private boolean[] alive = new boolean[INITIAL_CAPACITY];
+    private SpaceObject[] foreign = new SpaceObject[INITIAL_CAPACITY];
+    private int count;
+
+    // Per-cell linked lists of slots, rebuilt by buildGrid() and extended by add()
+    private final CellTable cellHead = new CellTable();
+    private int[] cellNext = new int[INITIAL_CAPACITY];
+    private boolean gridCurrent; // Whether the cell lists hold every slot at its position
+
+    /**
+     * Creates an empty store for a board of the given dimensions.
+     *
+     * @param width the board width.
+     * @param height the board height.
+     * @requires width > 0 && height > 0
+     */
+    public EntityStore(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the number of slots in use, including entities removed since the last sweep.
+     *
+     * @return the number of slots.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds a built-in entity of the given kind.
+     *
+     * @param kind the entity kind, one of BULLET, ASTEROID, ENEMY, HEALTH_POWER_UP
+     *             or SHIELD_POWER_UP.
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the slot of the new entity.
+     */
+    public int add(byte kind, int x, int y) {
+        ensureCapacity(count + 1);
+        xs[count] = x;
+        ys[count] = y;
+        kinds[count] = kind;
+        alive[count] = true;
+        foreign[count] = null;
+        if (gridCurrent) {
+            link(count);
+        }
+        return count++;
+    }
+
+    /**
+     * Adds a SpaceObject, unpacking it into the arrays if it is a built-in entity type.
+     *
+     * @param object the object to add.
+     * @return the slot of the new entity.
+     * @requires object != null
+     */
+    public int add(SpaceObject object) {
+        byte kind = kindOf(object);
+        int slot = add(kind, object.getX(), object.getY());
+        if (!isBuiltIn(object)) {
+            foreign[slot] = object;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the x coordinate of the entity in the slot.
+     *
+     * @param slot the slot.
+     * @return the x coordinate.
+     */
+    public int getX(int slot) {
+        return xs[slot];
+    }
+
+    /**
+     * Returns the y coordinate of the entity in the slot.
+     *
+     * @param slot the slot.
+     * @return the y coordinate.
+     */
+    public int getY(int slot) {
+        return ys[slot];
+    }
+
+    /**
+     * Returns the kind of the entity in the slot.
+     *
+     * @param slot the slot.
+     * @return the entity kind.
+     */
+    public byte getKind(int slot) {
+        return kinds[slot];
+    }
+
+    /**
+     * Returns whether the entity in the slot has not been removed.
+     *
+     * @param slot the slot.
+     * @return true if the entity is alive, false otherwise.
+     */
+    public boolean isAlive(int slot) {
+        return alive[slot];
+    }
+
+    /**
+     * Flags the entity in the slot for removal on the next sweep.
+     *
+     * @param slot the slot.
+     */
+    public void remove(int slot) {
+        alive[slot] = false;
+    }
+
+    /**
+     * Removes every entity.
+     */
+    public void clear() {
+        Arrays.fill(foreign, 0, count, null);
+        count = 0;
+        gridCurrent = false;
+    }
+
+    /**
+     * Moves every entity for the given tick and flags out-of-bound entities for removal.
+     * Bullets move up every tick; asteroids, enemies and power-ups move down every tenth tick.
+     *
+     * @param tick the game tick.
+     */
+    public void tick(int tick) {
+        gridCurrent = false;
+        boolean descend = tick % 10 == 0;
+        for (int i = 0; i < count; i++) {
+            switch (kinds[i]) {
+                case BULLET -> {
+                    if (foreign[i] == null) {
+                        ys[i]--;
+                    } else {
+                        tickForeign(i, tick);
+                    }
+                }
+                case ASTEROID, ENEMY, HEALTH_POWER_UP, SHIELD_POWER_UP -> {
+                    if (foreign[i] != null) {
+                        tickForeign(i, tick);
+                    } else if (descend) {
+                        ys[i]++;
+                    }
+                }
+                default -> tickForeign(i, tick);
+            }
+            if (!inBounds(xs[i], ys[i])) {
+                alive[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Compacts removed entities out of the arrays, keeping the order of the survivors.
+     */
+    public void sweep() {
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            if (!alive[read]) {
+                continue;
+            }
+            if (write != read) {
+                xs[write] = xs[read];
+                ys[write] = ys[read];
+                kinds[write] = kinds[read];
+                alive[write] = true;
+                foreign[write] = foreign[read];
+            }
+            write++;
+        }
+        Arrays.fill(foreign, write, count, null);
+        if (write != count) {
+            gridCurrent = false;
+        }
+        count = write;
+    }
+
+    /**
+     * Checks whether any live entity is at the given coordinate.
+     * Only the entities in the coordinate's cell are visited, once the cell lists are current.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return true if an entity occupies (x, y), false otherwise.
+     */
+    public boolean isOccupied(int x, int y) {
+        if (!gridCurrent) {
+            buildGrid();
+        }
+        for (int i = cellHead.get(x, y); i != NO_SLOT; i = cellNext[i]) {
+            if (alive[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rebuilds the per-cell slot lists used by firstTargetAt() and isOccupied().
+     * Must be called after entities are moved and before calling firstTargetAt(); entities
+     * added afterwards are appended to the lists. isOccupied() rebuilds the lists itself when
+     * they are out of date.
+     */
+    public void buildGrid() {
+        cellHead.clear();
+        // Walk backwards so that each cell list ends up in ascending slot order
+        for (int i = count - 1; i >= 0; i--) {
+            if (foreign[i] != null) {
+                xs[i] = foreign[i].getX();
+                ys[i] = foreign[i].getY();
+            }
+            cellNext[i] = cellHead.get(xs[i], ys[i]);
+            cellHead.put(xs[i], ys[i], i);
+        }
+        gridCurrent = true;
+    }
+
+    /**
+     * Returns the first slot, in insertion order, holding an Asteroid or Enemy at the coordinate.
+     * Entities flagged for removal since the last sweep are still considered.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param exclude a slot to skip.
+     * @return the matching slot, or -1 if there is none.
+     * @requires buildGrid() has been called since the last change to the store
+     */
+    public int firstTargetAt(int x, int y, int exclude) {
+        for (int i = cellHead.get(x, y); i != NO_SLOT; i = cellNext[i]) {
+            if (i != exclude && isTarget(kinds[i])) {
+                return i;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Returns a SpaceObject view of the entity in the slot.
+     * Built-in entities are materialised as new objects, foreign entities are returned as is.
+     *
+     * @param slot the slot.
+     * @return a SpaceObject at the entity's position.
+     */
+    public SpaceObject view(int slot) {
+        if (foreign[slot] != null) {
+            return foreign[slot];
+        }
+        int x = xs[slot];
+        int y = ys[slot];
+        return switch (kinds[slot]) {
+            case BULLET -> new Bullet(x, y);
+            case ASTEROID -> new Asteroid(x, y);
+            case ENEMY -> new Enemy(x, y);
+            case HEALTH_POWER_UP -> new HealthPowerUp(x, y);
+            case SHIELD_POWER_UP -> new ShieldPowerUp(x, y);
+            default -> throw new IllegalStateException("Slot " + slot + " has no object");
+        };
+    }
+
+    /**
+     * Returns SpaceObject views of every live entity, in order.
+     *
+     * @return a new list of views.
+     */
+    public List<SpaceObject> views() {
+        List<SpaceObject> views = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (alive[i]) {
+                views.add(view(i));
+            }
+        }
+        return views;
+    }
+
+    /**
+     * Returns the kind constant matching the object's type.
+     *
+     * @param object the object to classify.
+     * @return the kind of the object.
+     */
+    public static byte kindOf(SpaceObject object) {
+        return switch (object) {
+            case Bullet bullet -> BULLET;
+            case Asteroid asteroid -> ASTEROID;
+            case Enemy enemy -> ENEMY;
+            case HealthPowerUp healthPowerUp -> HEALTH_POWER_UP;
+            case ShieldPowerUp shieldPowerUp -> SHIELD_POWER_UP;
+            case Ship ship -> SHIP;
+            default -> OTHER;
+        };
+    }
+
+    private static boolean isBuiltIn(SpaceObject object) {
+        Class<?> type = object.getClass();
+        return type == Bullet.class || type == Asteroid.class || type == Enemy.class
+                || type == HealthPowerUp.class || type == ShieldPowerUp.class;
+    }
+
+    private static boolean isTarget(byte kind) {
+        return kind == ASTEROID || kind == ENEMY;
+    }
+
+    private void tickForeign(int slot, int tick) {
+        SpaceObject object = foreign[slot];
+        object.tick(tick);
+        xs[slot] = object.getX();
+        ys[slot] = object.getY();
+    }
+
+    /**
+     * Appends the slot, the highest in use, to the end of its cell's list.
+     */
+    private void link(int slot) {
+        cellNext[slot] = NO_SLOT;
+        int last = cellHead.get(xs[slot], ys[slot]);
+        if (last == NO_SLOT) {
+            cellHead.put(xs[slot], ys[slot], slot);
+            return;
+        }
+        while (cellNext[last] != NO_SLOT) {
+            last = cellNext[last];
+        }
+        cellNext[last] = slot;
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= xs.length) {
+            return;
+        }
+        int grown = Math.max(capacity, xs.length * 2);
+        xs = Arrays.copyOf(xs, grown);
+        ys = Arrays.copyOf(ys, grown);
+        kinds = Arrays.copyOf(kinds, grown);
+        alive = Arrays.copyOf(alive, grown);
+        foreign = Arrays.copyOf(foreign, grown);
+        cellNext = Arrays.copyOf(cellNext, grown);
+    }
+}
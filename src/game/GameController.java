@@ -1,9 +1,26 @@
 package game;
 
 import game.achievements.Achievement;
+import game.achievements.AchievementDefinition;
+import game.achievements.AchievementEngine;
 import game.achievements.AchievementManager;
+import game.achievements.ConcurrentStatsTracker;
 import game.achievements.PlayerStatsTracker;
 import game.core.SpaceObject;
+import game.events.GameEventBus;
+import game.events.GameEventHandler;
+import game.events.GameEventLog;
+import game.events.GameEventStats;
+import game.logging.AsyncLog;
+import game.logging.LogMessage;
+import game.metrics.TickPhase;
+import game.metrics.TickProfiler;
+import game.render.DeltaRenderer;
+import game.render.DeltaTracker;
+import game.render.RenderDelta;
+import game.render.StatBoard;
+import game.replay.Replay;
+import game.replay.ReplayRecorder;
 import game.ui.UI;
 import game.utility.Direction;
 
@@ -22,7 +39,28 @@ public class GameController {
     private final UI ui;
     private final GameModel model;
     private final AchievementManager achievementManager;
+    private final AchievementEngine achievementEngine; // Evaluates the standard achievements
+    private final Achievement enemyExterminatorAchievement;
+    private final Achievement survivorAchievement;
+    private final Achievement sharpShooterAchievement;
     private boolean paused = false;
+    private ReplayRecorder recorder; // null unless the session is being recorded
+    private boolean fusedTicks = false; // whether onTick advances the model with advance()
+    private GameEventBus.Subscription statsEvents; // null unless the model publishes events
+    private GameEventBus.Subscription logEvents;
+    private GameEventHandler statsHandler;
+    private GameEventHandler logHandler;
+    private AsyncLog asyncLog; // null unless verbose messages are logged asynchronously
+    private TickProfiler profiler; // null unless ticks are being profiled
+    private final DeltaTracker deltaTracker = new DeltaTracker(); // Used if ui is a DeltaRenderer
+    private final StatBoard stats = new StatBoard(); // Published to the ui once per frame
+    private final StatBoard.Stat score = stats.add("Score");
+    private final StatBoard.Stat health = stats.add("Health");
+    private final StatBoard.Stat level = stats.add("Level");
+    private final StatBoard.Stat timeSurvived = stats.add("Time Survived", " seconds");
+    private final StatBoard.Stat survivor = stats.add("Survivor");
+    private final StatBoard.Stat enemyExterminator = stats.add("Enemy Exterminator");
+    private final StatBoard.Stat sharpShooter = stats.add("Sharp Shooter");
 
     private static final String FIRE = "F";
     private static final String PAUSE = "P";
@@ -60,6 +98,16 @@ public class GameController {
         this.model = model;
         this.startTime = System.currentTimeMillis(); // Current time
         this.achievementManager = achievementManager;
+        this.achievementEngine = new AchievementEngine(achievementManager);
+        for (AchievementDefinition definition : AchievementDefinition.standard()) {
+            achievementEngine.register(definition);
+        }
+        this.enemyExterminatorAchievement =
+                achievementManager.getAchievement(AchievementDefinition.ENEMY_EXTERMINATOR);
+        this.survivorAchievement =
+                achievementManager.getAchievement(AchievementDefinition.SURVIVOR);
+        this.sharpShooterAchievement =
+                achievementManager.getAchievement(AchievementDefinition.SHARP_SHOOTER);
     }
 
 
@@ -76,7 +124,7 @@ public class GameController {
      * @provided
      */
     public GameController(UI ui, AchievementManager achievementManager) {
-        this(ui, new GameModel(ui::log, new PlayerStatsTracker()), achievementManager);
+        this(ui, new GameModel(ui::log, new ConcurrentStatsTracker()), achievementManager);
 
     }
 
@@ -91,6 +139,135 @@ public class GameController {
         ui.onKey(this::handlePlayerInput);
     }
 
+    /**
+     * Seeds the model's Random and starts recording the session's player commands,
+     * so it can be played back with a ReplayPlayer.<br>
+     * Should be called before the first tick for the playback to be exact.
+     *
+     * @param seed the seed passed to model.setRandomSeed().
+     * @requires model != null
+     */
+    public void startRecording(int seed) {
+        model.setRandomSeed(seed);
+        recorder = new ReplayRecorder(seed, model.getWidth(), model.getHeight());
+    }
+
+    /**
+     * Returns the session recorded since startRecording() was called.
+     *
+     * @return the replay of the session, or null if the session is not being recorded.
+     */
+    public Replay getRecording() {
+        return recorder == null ? null : recorder.toReplay();
+    }
+
+    /**
+     * Sets whether onTick advances the model with a single call to model.advance(tick),
+     * instead of calling updateGame, checkCollisions, spawnObjects and levelUp in turn.<br>
+     * Both give the same game state, advance() makes fewer passes over the objects.
+     *
+     * @param fusedTicks true to use model.advance(tick), false for the separate calls.
+     */
+    public void setFusedTicks(boolean fusedTicks) {
+        this.fusedTicks = fusedTicks;
+    }
+
+    /**
+     * Makes the model publish its side effects to a new GameEventBus instead of running them
+     * inline. The controller subscribes a GameEventStats and a GameEventLog to the bus and
+     * drains them at the end of every tick, before achievements are refreshed. Further
+     * subscribers, e.g. ones draining on their own thread, can be added through
+     * model.getEventBus().subscribe() before the game starts.
+     *
+     * @param capacity the capacity of the bus, the most events one tick can publish. Events
+     *                 beyond it are dropped by the bus and handled inline by the model.
+     * @requires model != null && capacity > 0
+     */
+    public void useEventBus(int capacity) {
+        GameEventBus bus = new GameEventBus(capacity);
+        statsEvents = bus.subscribe();
+        logEvents = bus.subscribe();
+        statsHandler = new GameEventStats(model.getStatsTracker());
+        logHandler = new GameEventLog(ui::log, model::isVerbose);
+        model.setEventBus(bus);
+    }
+
+    /**
+     * Makes verbose messages from the controller and the model be queued on a new AsyncLog,
+     * and formatted and passed to ui.log() by its background thread instead of during the
+     * tick or key press. At most maxPerSecond messages reach the UI each second.
+     *
+     * @param capacity the most messages queued at once.
+     * @param maxPerSecond the most messages logged to the UI per second.
+     * @throws IllegalArgumentException if capacity or maxPerSecond is not positive.
+     * @requires model != null && ui != null
+     */
+    public void useAsyncLog(int capacity, int maxPerSecond) {
+        asyncLog = new AsyncLog(ui::log, capacity, maxPerSecond);
+        asyncLog.start();
+        model.setAsyncLog(asyncLog);
+    }
+
+    /**
+     * Starts timing each phase of onTick with a new TickProfiler. If dumpIntervalMillis is
+     * positive, the profiler's report is passed to ui.log() at that interval.
+     *
+     * @param budgetNanos the longest a tick may take before it is counted as an overrun.
+     * @param dumpIntervalMillis the time between reports, or 0 for no reports.
+     * @return the profiler, to query the timings from.
+     * @throws IllegalArgumentException if budgetNanos is not positive.
+     * @requires ui != null
+     */
+    public TickProfiler profileTicks(long budgetNanos, long dumpIntervalMillis) {
+        TickProfiler ticks = new TickProfiler(budgetNanos);
+        if (dumpIntervalMillis > 0) {
+            ticks.setDump(ui::log, dumpIntervalMillis);
+        }
+        profiler = ticks;
+        return ticks;
+    }
+
+    /**
+     * Returns the profiler timing onTick.
+     *
+     * @return the profiler, or null if ticks are not being profiled.
+     */
+    public TickProfiler getTickProfiler() {
+        return profiler;
+    }
+
+    private void lap(TickPhase phase) {
+        if (profiler != null) {
+            profiler.lap(phase);
+        }
+    }
+
+    private void log(LogMessage message, double value) {
+        if (asyncLog != null) {
+            asyncLog.log(message, value);
+        } else {
+            ui.log(message.format(value));
+        }
+    }
+
+    private void log(LogMessage message, long first, long second) {
+        if (asyncLog != null) {
+            asyncLog.log(message, first, second);
+        } else {
+            ui.log(message.format(first, second));
+        }
+    }
+
+    /**
+     * Drains the controller's event subscriptions, if useEventBus() was called.
+     */
+    private void drainEvents() {
+        if (statsEvents != null) {
+            statsEvents.drain(statsHandler);
+            logEvents.drain(logHandler);
+        }
+    }
+
     /**
      * Uses the provided tick to call and advance the following:<br>
      * - A call to model.updateGame(tick) to advance the game by the given tick.<br>
@@ -99,16 +276,41 @@ public class GameController {
      * - A call to model.levelUp() to check and handle leveling.<br>
      * - A call to refreshAchievements(tick) to handle achievement updating.<br>
      * - A call to renderGame() to draw the current state of the game.<br>
+     * When fused ticks are enabled, the first four calls are replaced by model.advance(tick).
+     * When an event bus is used, its events are drained before achievements are refreshed.
+     * When ticks are profiled, each phase is timed by the TickProfiler.
      * @param tick the provided tick
      * @provided
      */
     public void onTick(int tick) {
-        model.updateGame(tick); // Update GameObjects
-        model.checkCollisions(); // Check for Collisions
-        model.spawnObjects(); // Handles new spawns
-        model.levelUp(); // Level up when score threshold is met
+        if (profiler != null) {
+            profiler.beginTick();
+        }
+        if (fusedTicks) {
+            model.advance(tick); // Update, collide, spawn and level up in one
+            lap(TickPhase.ADVANCE);
+        } else {
+            model.updateGame(tick); // Update GameObjects
+            lap(TickPhase.UPDATE_GAME);
+            model.checkCollisions(); // Check for Collisions
+            lap(TickPhase.CHECK_COLLISIONS);
+            model.spawnObjects(); // Handles new spawns
+            lap(TickPhase.SPAWN_OBJECTS);
+            model.levelUp(); // Level up when score threshold is met
+            lap(TickPhase.LEVEL_UP);
+        }
+        drainEvents(); // Handle the side effects published during the tick
+        lap(TickPhase.DRAIN_EVENTS);
         refreshAchievements(tick); // Handle achievement updating.
+        lap(TickPhase.REFRESH_ACHIEVEMENTS);
         renderGame(); // Update Visual
+        lap(TickPhase.RENDER_GAME);
+        if (recorder != null) {
+            recorder.recordTick(tick);
+        }
+        if (profiler != null) {
+            profiler.endTick();
+        }
 
         // Check game over
         if (model.checkGameOver()) {
@@ -183,19 +385,40 @@ public class GameController {
     }
 
     /**
-     * Renders the current game state, including score, health, and ship position.
+     * Renders the current game state, including score, health, and ship position.<br>
+     * Only the stats whose text changed since the previous frame, including the achievement
+     * progress set by refreshAchievements(), are sent to the UI.<br>
+     * If the UI is a DeltaRenderer, only the objects spawned, moved or removed since the
+     * previous frame are sent to it, and nothing is sent if no object changed. Otherwise the
+     * full list of objects and the ship is passed to ui.render().
      */
     public void renderGame() {
+        setStats();
+        stats.publish(ui);
+        if (ui instanceof DeltaRenderer renderer) {
+            deltaTracker.beginFrame();
+            for (SpaceObject spaceObject : model.getSpaceObjects()) {
+                deltaTracker.track(spaceObject);
+            }
+            deltaTracker.track(model.getShip());
+            RenderDelta delta = deltaTracker.endFrame();
+            if (!delta.isEmpty()) {
+                renderer.renderDelta(delta);
+            }
+            return;
+        }
         List<SpaceObject> spaceObjectsAndShip = new ArrayList<>(model.getSpaceObjects());
         spaceObjectsAndShip.add(model.getShip());
-
-        ui.setStat("Score", Integer.toString(model.getShip().getScore()));
-        ui.setStat("Health", Integer.toString(model.getShip().getHealth()));
-        ui.setStat("Level", Integer.toString(model.getLevel()));
-        ui.setStat("Time Survived", (System.currentTimeMillis() - startTime) / 1000 + " seconds");
         ui.render(spaceObjectsAndShip);
     }
 
+    private void setStats() {
+        score.set(model.getShip().getScore());
+        health.set(model.getShip().getHealth());
+        level.set(model.getLevel());
+        timeSurvived.set((System.currentTimeMillis() - startTime) / 1000);
+    }
+
     /**
      * Returns the current game model.
      * @return model which is the game
@@ -230,40 +453,28 @@ public class GameController {
      * Survivor mastered at 120 seconds
      * Enemy mastered at 20 shots
      * Sharp shooter achievement is determined via an accuracy based metric.
+     * The achievements are evaluated by an AchievementEngine, so an achievement is only
+     * re-computed on the ticks its stats change, and mastery is recorded once when reached.
      * @requires model != null && achievementManager != null && ui != null
      * @ensures - survivorAchievement is set to  survival time / 120.0
      *          - enemyAchievement is set to hits / 20.0
      *          - sharpShooterAchievement is set to .0. if shots fired <= 10
      *                  otherwise to accuracy / 0.99 if shotsFired > 10
      *          - Store all new achievements that is mastered,
+     *          - the progress stats are sent to the UI by the next renderGame()
      * @param tick the tick
      */
     public void refreshAchievements(int tick) {
-        double survivorAchievement
-                = Math.min(1.0, model.getStatsTracker().getElapsedSeconds() / 120.0);
-        double enemyAchievement
-                = Math.min(1.0, model.getStatsTracker().getShotsHit() / 20.0);
+        achievementEngine.evaluate(model.getStatsTracker());
 
-        double sharpShooterAchievement;
-        int shotsFired = model.getStatsTracker().getShotsFired();
+        double survivorProgress = survivorAchievement.getProgress();
+        double enemyProgress = enemyExterminatorAchievement.getProgress();
+        double sharpShooterProgress = sharpShooterAchievement.getProgress();
+        survivor.set(survivorProgress);
+        enemyExterminator.set(enemyProgress);
+        sharpShooter.set(sharpShooterProgress);
 
-        if (shotsFired <= 10) {
-            sharpShooterAchievement = 0.0;
-        } else {
-            sharpShooterAchievement = Math.min(1.0, model.getStatsTracker().getAccuracy() / 0.99);
-        }
-
-        achievementManager.updateAchievement("Survivor", survivorAchievement);
-        achievementManager.updateAchievement("Enemy Exterminator", enemyAchievement);
-        achievementManager.updateAchievement("Sharp Shooter", sharpShooterAchievement);
-
-        achievementManager.logAchievementMastered();
-
-        ui.setStat("Survivor", String.format("%.2f", survivorAchievement));
-        ui.setStat("Enemy Exterminator", String.format("%.2f", enemyAchievement));
-        ui.setStat("Sharp Shooter", String.format("%.2f", sharpShooterAchievement));
-
-        displayProgress(tick, survivorAchievement, enemyAchievement, sharpShooterAchievement);
+        displayProgress(tick, survivorProgress, enemyProgress, sharpShooterProgress);
     }
 
     /**
@@ -280,10 +491,9 @@ public class GameController {
     private void displayProgress(int tick, double survivorAchievement,
                                  double enemyAchievement, double sharpShooterAchievement) {
         if (isVerbose && tick % 100 == 0) {
-            ui.log("Survivor progress: " + String.format("%.2f", survivorAchievement));
-            ui.log("Enemy Exterminator progress: "
-                    + String.format("%.2f", enemyAchievement));
-            ui.log("Sharp Shooter progress: " + String.format("%.2f", sharpShooterAchievement));
+            log(LogMessage.SURVIVOR_PROGRESS, survivorAchievement);
+            log(LogMessage.ENEMY_EXTERMINATOR_PROGRESS, enemyAchievement);
+            log(LogMessage.SHARP_SHOOTER_PROGRESS, sharpShooterAchievement);
         }
     }
 
@@ -294,8 +504,7 @@ public class GameController {
      */
     private void printShipMoving() {
         if (isVerbose) {
-            ui.log("Ship moved to ("
-                    + model.getShip().getX() + ", " + model.getShip().getY() + ")");
+            log(LogMessage.SHIP_MOVED, model.getShip().getX(), model.getShip().getY());
         }
     }
 
@@ -346,7 +555,10 @@ public class GameController {
         if (paused && !command.equals(PAUSE)) {
             return;
         }
-        
+        if (recorder != null) {
+            recorder.recordCommand(command);
+        }
+
         switch (command) {
             case MOVE_UP -> moveShip(Direction.UP);
             case MOVE_LEFT -> moveShip(Direction.LEFT);
@@ -355,8 +567,9 @@ public class GameController {
             case PAUSE -> pauseGame();
 
             case FIRE -> {
-                model.fireBullet();
+                // Before the bullet exists, so the tick thread can never count its hit first
                 model.getStatsTracker().recordShotFired();
+                model.fireBullet();
             }
             default -> ui.log(invalidInput);
         }
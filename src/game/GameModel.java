@@ -2,11 +2,16 @@ package game;
 
 import game.achievements.PlayerStatsTracker;
 import game.core.*;
+import game.events.GameEventBus;
+import game.events.GameEventType;
+import game.logging.AsyncLog;
+import game.logging.LogMessage;
 import game.utility.Logger;
-import java.util.Iterator;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Set;
 
 /**
  * Represents the game information and state. Stores and manipulates the game state.
@@ -23,42 +28,88 @@ public class GameModel {
     public static final double ENEMY_SPAWN_RATE = 0.5; // Percentage of asteroid spawn chance
     public static final double POWER_UP_SPAWN_RATE = 0.25; // Percentage of asteroid spawn chance
 
-    private final Random random = new Random(); // ONLY USED IN this.spawnObjects()
-    private final List<SpaceObject> spaceObjects; // List of all objects
-    private final Ship ship; // Core.Ship starts at (5, 10) with 100 health
+    private final StatefulRandom random = new StatefulRandom(); // ONLY USED IN spawnObjects()
+    private final int width; // The board width of this game
+    private final int height; // The board height of this game
+    private final ObjectList spaceObjects; // List of all objects
+    private long syncedModifications; // spaceObjects.getModifications() when last synced
+    private final SpatialIndex spatialIndex; // Cell occupancy of spaceObjects
+    private final CellSet dirtyCells; // Cells entered by an object since the last collision check
+    private final TickScheduler scheduler; // spaceObjects grouped by cadence
+    private final List<SpaceObject> added; // Objects added since the last updateGame()
+    private final Set<SpaceObject> removing; // Objects to remove in the next compaction
+    private int checkedShipX = Integer.MIN_VALUE; // Ship position at the last collision check
+    private int checkedShipY = Integer.MIN_VALUE;
+    private SpaceObjectPool objectPool; // Source of spawned objects and bullets
+    private final Ship ship; // Core.Ship starts at the board centre, (5, 10), with 100 health
     private int lvl; // The current game level
     private int spawnRate; // The current game spawn rate
     private final Logger logger; // The Logger reference used for logging.
     
     private boolean verbose;
     private final PlayerStatsTracker statsTracker;
+    private GameEventBus eventBus; // null unless side effects are published as events
+    private AsyncLog asyncLog; // null unless verbose messages are logged asynchronously
 
     
     /**
-     * Constructs a new GameModel that manages the state of the space game.
+     * Constructs a new GameModel that manages the state of the space game
+     * on a GAME_WIDTH by GAME_HEIGHT board.
+     *
+     * The logger should be a method reference to a log method, such as UI::log.
+     * Example: GameModel model = new GameModel(ui::log, new PlayerStatsTracker());
+     *
+     * @param logger a functional interface for passing information between classes.
+     * @param statsTracker a PlayerStatsTracker instance to record stats.
+     *
+     * @requires logger != null && statsTracker != null
+     * @throws NullPointerException if logger or statsTracker is null
+     */
+    public GameModel(Logger logger, PlayerStatsTracker statsTracker) {
+        this(logger, statsTracker, GAME_WIDTH, GAME_HEIGHT);
+    }
+
+    /**
+     * Constructs a new GameModel that manages the state of the space game
+     * on a board of the given size.
      * 
      * This constructor:
      * - Instantiates an empty list to store all SpaceObjects.
+     * - Instantiates an empty SpatialIndex over the game board.
+     * - Instantiates an empty set of cells to check for collisions.
+     * - Instantiates an empty TickScheduler.
+     * - Instantiates a SpaceObjectPool with no capacity, so objects are not recycled.
      * - Instantiates the game level with the starting level value.
      * - Instantiates the game spawn rate with the starting spawn rate.
-     * - Instantiates a new Ship.
+     * - Instantiates a new Ship at the centre of the board, bounded by the board.
      * - Stores reference to the given Logger.
      * - Stores reference to the given PlayerStatsTracker.
      * 
      * The logger should be a method reference to a log method, such as UI::log.
-     * Example: GameModel model = new GameModel(ui::log, new PlayerStatsTracker());
+     * Example: GameModel model = new GameModel(ui::log, new PlayerStatsTracker(), 1000, 2000);
      * 
      * @param logger a functional interface for passing information between classes.
      * @param statsTracker a PlayerStatsTracker instance to record stats.
+     * @param width the board width.
+     * @param height the board height.
      *
-     * @requires logger != null && statsTracker != null
+     * @requires logger != null && statsTracker != null && width > 0 && height > 0
      * @throws NullPointerException if logger or statsTracker is null
      */
-    public GameModel(Logger logger, PlayerStatsTracker statsTracker) {
-        spaceObjects = new ArrayList<>();
+    public GameModel(Logger logger, PlayerStatsTracker statsTracker, int width, int height) {
+        this.width = width;
+        this.height = height;
+        spaceObjects = new ObjectList();
+        spatialIndex = new SpatialIndex();
+        dirtyCells = new CellSet();
+        scheduler = new TickScheduler();
+        added = new ArrayList<>();
+        removing = Collections.newSetFromMap(new IdentityHashMap<>());
+        objectPool = new SpaceObjectPool(0);
         lvl = START_LEVEL;
         spawnRate = START_SPAWN_RATE;
-        ship = new Ship();
+        ship = new Ship(width / 2, height / 2);
+        ship.setBoardSize(width, height);
         this.logger = logger;
         this.statsTracker = statsTracker;
     }
@@ -81,6 +132,24 @@ public class GameModel {
         return spaceObjects;
     }
 
+    /**
+     * Returns the board width of this game.
+     *
+     * @return the board width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the board height of this game.
+     *
+     * @return the board height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
     /**
      * Returns the current level.
      *
@@ -90,6 +159,35 @@ public class GameModel {
         return lvl;
     }
 
+    /**
+     * Returns the current spawn rate.
+     *
+     * @return the current spawn rate (percentage chance per tick).
+     */
+    public int getSpawnRate() {
+        return spawnRate;
+    }
+
+    /**
+     * Returns the Random used by spawnObjects(), for snapshotting its state.
+     *
+     * @return the spawn Random.
+     */
+    StatefulRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Restores the level and spawn rate, used when restoring a GameSnapshot.
+     *
+     * @param lvl the level.
+     * @param spawnRate the spawn rate.
+     */
+    void restoreProgress(int lvl, int spawnRate) {
+        this.lvl = lvl;
+        this.spawnRate = spawnRate;
+    }
+
     /**
      * Returns the current player stats tracker.
      * @return the current player stats tracker.
@@ -98,6 +196,125 @@ public class GameModel {
         return this.statsTracker;
     }
 
+    /**
+     * Returns the bus side effects are published to.
+     *
+     * @return the event bus, or null if side effects run inline.
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Sets the bus that side effects are published to.<br>
+     * While a bus is set, collisions, power-ups, spawns, level-ups and shots fired and hit are
+     * published as GameEvents instead of being logged, and shots hit are not recorded in the
+     * stats tracker; subscribers such as GameEventLog and GameEventStats handle them instead.
+     * An event the full bus drops is handled inline as if no bus was set.
+     * The game state itself is still updated during the tick.
+     *
+     * @param eventBus the bus to publish to, or null to run side effects inline.
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Publishes an event to the event bus, if one is set.
+     *
+     * @param type the event type.
+     * @param kind the kind of object involved, as an EntityStore kind constant.
+     * @param x the x coordinate of the event.
+     * @param y the y coordinate of the event.
+     * @param value the event's value, see GameEventType.
+     * @param extra the event's extra value, see GameEventType.
+     * @return true if the event was published, false if no bus is set or the bus was full,
+     *         in which case the caller runs the side effect inline.
+     */
+    protected boolean publish(GameEventType type, byte kind, int x, int y, int value,
+                              int extra) {
+        return eventBus != null && eventBus.publish(type, kind, x, y, value, extra);
+    }
+
+    /**
+     * Records a Bullet hitting an Enemy at the given position, in the stats tracker or as a
+     * SHOT_HIT event if an event bus is set.
+     * @param x the x coordinate of the hit.
+     * @param y the y coordinate of the hit.
+     * @requires statsTracker != null || eventBus != null
+     */
+    protected void recordShotHit(int x, int y) {
+        if (!publish(GameEventType.SHOT_HIT, EntityStore.ENEMY, x, y, 0, 0)) {
+            statsTracker.recordShotHit();
+        }
+    }
+
+    /**
+     * Returns the log verbose messages are queued on.
+     *
+     * @return the asynchronous log, or null if messages are logged synchronously.
+     */
+    public AsyncLog getAsyncLog() {
+        return asyncLog;
+    }
+
+    /**
+     * Sets the log that verbose messages are queued on.<br>
+     * While a log is set, verbose messages are queued as a LogMessage and its arguments, and
+     * formatted and passed to its sink off the tick thread, instead of being built and passed
+     * to the logger during the tick.
+     *
+     * @param asyncLog the log to queue messages on, or null to log through the logger.
+     */
+    public void setAsyncLog(AsyncLog asyncLog) {
+        this.asyncLog = asyncLog;
+    }
+
+    private void log(LogMessage message, long value) {
+        if (asyncLog != null) {
+            asyncLog.log(message, value);
+        } else {
+            logger.log(message.format(value));
+        }
+    }
+
+    private void log(LogMessage message, long first, long second) {
+        if (asyncLog != null) {
+            asyncLog.log(message, first, second);
+        } else {
+            logger.log(message.format(first, second));
+        }
+    }
+
+    private void log(LogMessage message, Object value) {
+        if (asyncLog != null) {
+            asyncLog.log(message, value);
+        } else {
+            logger.log(message.format(value));
+        }
+    }
+
+    /**
+     * Returns the pool that spawned objects and bullets are obtained from.
+     *
+     * @return the current object pool.
+     */
+    public SpaceObjectPool getObjectPool() {
+        return objectPool;
+    }
+
+    /**
+     * Sets the pool that spawned objects and bullets are obtained from.
+     * Objects the model obtained from the pool are released back to it once they are removed
+     * from the game, so they must not be retained after they leave getSpaceObjects().
+     *
+     * @param objectPool the pool to use, e.g. new SpaceObjectPool() to enable recycling.
+     * @requires objectPool != null
+     */
+    public void setObjectPool(SpaceObjectPool objectPool) {
+        this.objectPool = objectPool;
+    }
+
     /**
      * Adds a SpaceObject to the game
      * Objects are considered part of the game only when they are tracked by the model.
@@ -106,7 +323,26 @@ public class GameModel {
      * @requires object != null.
      */
     public void addObject(SpaceObject object) {
-        this.spaceObjects.add(object);
+        this.spaceObjects.append(object);
+        this.spatialIndex.add(object);
+        this.dirtyCells.add(object.getX(), object.getY());
+        this.scheduler.add(object);
+        this.added.add(object);
+    }
+
+    /**
+     * Removes every SpaceObject from the game, releasing pooled objects back to the pool.
+     * @requires spaceObjects != null
+     * @ensures getSpaceObjects() is empty
+     */
+    public void clearObjects() {
+        for (SpaceObject spaceObject : spaceObjects) {
+            objectPool.release(spaceObject);
+        }
+        spaceObjects.reset();
+        spatialIndex.clear();
+        scheduler.clear();
+        added.clear();
     }
 
     /**
@@ -114,45 +350,135 @@ public class GameModel {
      * @param x the x-axis parameter
      * @param y the y-axis parameter
      * @return true if the coordinate is free and vice versa
-     * @requires 0 <= x < GAME_WIDTH
-     *        && 0 <= Y < GAME_HEIGHT
+     * @requires 0 <= x < getWidth()
+     *        && 0 <= Y < getHeight()
      *        && ship != null
      *        && spaceObjects != null
      * @ensures that the result is true if no ship nor spaceObject is present at x and y
      */
-    private boolean coordinateFree(int x, int y) {
+    protected boolean coordinateFree(int x, int y) {
         if (ship.getX() == x && ship.getY() == y) {
             return false;
         }
-        for (SpaceObject spaceObject : spaceObjects) {
-            if (spaceObject.getX() == x && spaceObject.getY() == y) {
-                return false;
+        syncObjectList();
+        return !spatialIndex.isOccupied(x, y);
+    }
+
+    /**
+     * Rebuilds the spatial index and scheduler if spaceObjects was modified without going
+     * through the model, e.g. by editing the list returned from getSpaceObjects().
+     * @requires spaceObjects != null
+     * @ensures spatialIndex and scheduler hold exactly the objects in spaceObjects
+     */
+    private void syncObjectList() {
+        if (spaceObjects.getModifications() != syncedModifications) {
+            syncedModifications = spaceObjects.getModifications();
+            spatialIndex.rebuild(spaceObjects);
+            scheduler.rebuild(spaceObjects);
+            // Objects may have been added without being marked, so check every one
+            added.clear();
+            added.addAll(spaceObjects);
+            for (SpaceObject spaceObject : spaceObjects) {
+                dirtyCells.add(spaceObject.getX(), spaceObject.getY());
             }
         }
-        return true;
     }
 
     /**
      * Moves all objects and updates the game state.
+     * <p>
+     * Objects are ticked through the TickScheduler, so objects that implement Cadenced are
+     * only ticked on the ticks where they act. An object can only leave the board by moving,
+     * so only the objects that moved and the objects added since the last update are checked
+     * against the board.
+     *
      * @param tick - the tick value passed through to the objects tick() method.
      * @requires spaceObjects != null
-     * @ensures all space objects are updated and only in-bound objects remain
+     * @ensures all space objects are updated and only in-bound objects remain,
+     *          the spatial index follows their new positions,
+     *          and the cells of objects that moved are marked for the next collision check
      */
     public void updateGame(int tick) {
+        syncObjectList();
+        moveObjects(tick);
+        // The game state is updated
+        // by removing out-of-bound objects
+        removeObjects(List.of());
+    }
+
+    /**
+     * Advances the game by one tick, with the same result as calling updateGame(tick),
+     * checkCollisions(), spawnObjects() and levelUp() in turn.
+     * <p>
+     * Objects are moved, checked against the board and their cells marked as collision
+     * candidates in one sweep over the objects that act on this tick. Collisions are then
+     * resolved in the marked cells only, and the objects that left the board and the collided
+     * objects are removed together in a single pass over the list, before spawning.
+     *
+     * @param tick the tick value passed through to the objects tick() method.
+     * @requires spaceObjects != null && ship != null
+     */
+    public void advance(int tick) {
+        syncObjectList();
+        moveObjects(tick);
+        removeObjects(findCollisions());
+        spawnObjects();
+        levelUp();
+    }
 
-        Iterator<SpaceObject> iterator = spaceObjects.iterator();
-        while (iterator.hasNext()) {
-            SpaceObject spaceObject = iterator.next();
-            // Objects should be moved by calling
-            // .tick(tick) on each object.
-            spaceObject.tick(tick);
-
-            // The game state is updated
-            // by removing out-of-bound objects during the tick
-            if (!isInBounds(spaceObject)) { 
-                iterator.remove();
+    /**
+     * Ticks the objects through the scheduler, and marks the objects that left the board, or
+     * were added outside of it, for removal and takes them out of the spatial index.
+     * @param tick the tick value passed through to the objects tick() method.
+     */
+    private void moveObjects(int tick) {
+        // Objects should be moved by calling
+        // .tick(tick) on each object.
+        scheduler.tick(tick, this::objectMoved);
+        for (SpaceObject spaceObject : added) {
+            if (!isOnBoard(spaceObject)) {
+                removing.add(spaceObject);
             }
         }
+        added.clear();
+        for (SpaceObject spaceObject : removing) {
+            spatialIndex.remove(spaceObject);
+        }
+    }
+
+    /**
+     * Follows an object moved by its tick in the spatial index, and marks it for removal if it
+     * has left the board or for the next collision check otherwise.
+     */
+    private void objectMoved(SpaceObject spaceObject, int fromX, int fromY) {
+        spatialIndex.move(spaceObject, fromX, fromY);
+        if (isOnBoard(spaceObject)) {
+            dirtyCells.add(spaceObject.getX(), spaceObject.getY());
+        } else {
+            removing.add(spaceObject);
+        }
+    }
+
+    /**
+     * Removes the objects marked by moveObjects() and the collided objects from the game,
+     * all in a single pass over the list, and releases them to the pool.
+     * @param collided the collided objects, still in the spatial index.
+     */
+    private void removeObjects(List<SpaceObject> collided) {
+        for (SpaceObject spaceObject : collided) {
+            spatialIndex.remove(spaceObject);
+        }
+        removing.addAll(collided);
+        if (removing.isEmpty()) {
+            return;
+        }
+        spaceObjects.removeMarked(removing::contains);
+        scheduler.removeAll(removing);
+        added.removeIf(removing::contains);
+        for (SpaceObject spaceObject : removing) {
+            objectPool.release(spaceObject);
+        }
+        removing.clear();
     }
     
     /**
@@ -164,17 +490,25 @@ public class GameModel {
         this.verbose = verbose;
     }
 
+    /**
+     * Returns whether verbose logging is enabled.
+     * @return true if verbose is enabled, false otherwise
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
 
     /**
      * Spawns new objects (Asteroids, Enemies, and PowerUp) at random positions.
      * Uses this.random to make EXACTLY 6 calls to random.nextInt() and 1 random.nextBoolean.
      *
      1. Check if an Asteroid should spawn (random.nextInt(100) < spawnRate)
-     2. If spawning an Asteroid, spawn at x-coordinate = random.nextInt(GAME_WIDTH)
+     2. If spawning an Asteroid, spawn at x-coordinate = random.nextInt(width)
      3. Check if an Enemy should spawn (random.nextInt(100) < spawnRate * ENEMY_SPAWN_RATE)
-     4. If spawning an Enemy, spawn at x-coordinate = random.nextInt(GAME_WIDTH)
+     4. If spawning an Enemy, spawn at x-coordinate = random.nextInt(width)
      5. Check if a PowerUp should spawn (random.nextInt(100) < spawnRate * POWER_UP_SPAWN_RATE)
-     6. If spawning a PowerUp, spawn at x-coordinate = random.nextInt(GAME_WIDTH)
+     6. If spawning a PowerUp, spawn at x-coordinate = random.nextInt(width)
      7. If spawning a PowerUp, spawn a ShieldPowerUp if random.nextBoolean(), else a HealthPowerUp.
      *
      * @requires random != null && ship != null && spaceObjects != null
@@ -187,36 +521,48 @@ public class GameModel {
 
         // Spawn asteroids with a chance determined by spawnRate
         if (random.nextInt(100) < spawnRate) {
-            int x = random.nextInt(GAME_WIDTH); // Random x-coordinate
+            int x = random.nextInt(width); // Random x-coordinate
             int y = 0; // Spawn at the top of the screen
             if (coordinateFree(x, y)) {
-                spaceObjects.add(new Asteroid(x, y));
+                spawn(objectPool.asteroid(x, y));
             }
         }
 
         // Spawn enemies with a lower chance
         // Half the rate of asteroids
         if (random.nextInt(100) < spawnRate * ENEMY_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
+            int x = random.nextInt(width);
             int y = 0;
             if (coordinateFree(x, y)) {
-                spaceObjects.add(new Enemy(x, y));
+                spawn(objectPool.enemy(x, y));
             }
         }
 
         // Spawn power-ups with an even lower chance
         // One-fourth the spawn rate of asteroids
         if (random.nextInt(100) < spawnRate * POWER_UP_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
+            int x = random.nextInt(width);
             int y = 0;
-            PowerUp powerUp = random.nextBoolean() ? new ShieldPowerUp(x, y) :
-                    new HealthPowerUp(x, y);
+            PowerUp powerUp = random.nextBoolean() ? objectPool.shieldPowerUp(x, y) :
+                    objectPool.healthPowerUp(x, y);
             if (coordinateFree(x, y)) {
-                spaceObjects.add(powerUp);
+                spawn(powerUp);
+            } else {
+                objectPool.release(powerUp);
             }
         }
     }
 
+    /**
+     * Adds a spawned object to the game and publishes its SPAWN event.
+     * @param spaceObject the spawned object
+     */
+    private void spawn(SpaceObject spaceObject) {
+        publish(GameEventType.SPAWN, EntityStore.kindOf(spaceObject), spaceObject.getX(),
+                spaceObject.getY(), 0, 0);
+        addObject(spaceObject);
+    }
+
     /**
      * A generic method to check if 2 space objects are colliding
      * by checking their relative x and y-axis coordinates.
@@ -256,9 +602,9 @@ public class GameModel {
             // increase spawn rate by the increase
             spawnRate += SPAWN_RATE_INCREASE;
 
-            if (verbose) {
-                logger.log("Level Up! Welcome to Level "
-                        + lvl + ". Spawn rate increased to " + spawnRate + "%.");
+            if (!publish(GameEventType.LEVEL_UP, EntityStore.SHIP, ship.getX(), ship.getY(),
+                    lvl, spawnRate) && verbose) {
+                log(LogMessage.LEVEL_UP, lvl, spawnRate);
             }
         }
     }
@@ -274,7 +620,8 @@ public class GameModel {
         int bulletX = ship.getX();
         int bulletY = ship.getY();
         // Core.Bullet starts just above the ship
-        spaceObjects.add(new Bullet(bulletX, bulletY));
+        addObject(objectPool.bullet(bulletX, bulletY));
+        publish(GameEventType.SHOT_FIRED, EntityStore.BULLET, bulletX, bulletY, 0, 0);
         // spec does not say to do the following
         // logger.log("Core.Bullet fired!");
 
@@ -286,10 +633,24 @@ public class GameModel {
      * @param powerUp the type of PowerUp
      * @param spaceObject the collided PowerUp
      */
-    private void powerUpCollection(PowerUp powerUp, SpaceObject spaceObject) {
+    protected void powerUpCollection(PowerUp powerUp, SpaceObject spaceObject) {
+        powerUpCollection(powerUp, EntityStore.kindOf(spaceObject), spaceObject.getX(),
+                spaceObject.getY());
+    }
+
+    /**
+     * PowerUp collision is handled for a PowerUp collected at the given position, so an engine
+     * that does not keep PowerUp objects can pass one shared instance per kind.
+     * @requires powerUp != null
+     * @param powerUp a PowerUp of the collected type, whose effect is applied
+     * @param kind the kind of the collected PowerUp, as an EntityStore kind constant
+     * @param x the x coordinate of the collected PowerUp
+     * @param y the y coordinate of the collected PowerUp
+     */
+    protected void powerUpCollection(PowerUp powerUp, byte kind, int x, int y) {
         powerUp.applyEffect(ship);
-        if (this.verbose) {
-            logger.log("Power-up collected: " + spaceObject.render());
+        if (!publish(GameEventType.POWER_UP_COLLECTED, kind, x, y, 0, 0) && this.verbose) {
+            log(LogMessage.POWER_UP_COLLECTED, powerUp.render());
         }
     }
 
@@ -298,10 +659,11 @@ public class GameModel {
      * @required ship != null && ASTEROID_DAMAGE > 0
      * @ensures ship takes damage and logs a message if verbose is true
      */
-    private void handleAsteroidCollision() {
+    protected void handleAsteroidCollision() {
         ship.takeDamage(ASTEROID_DAMAGE);
-        if (this.verbose) {
-            logger.log("Hit by asteroid! Health reduced by " + ASTEROID_DAMAGE + ".");
+        if (!publish(GameEventType.COLLISION, EntityStore.ASTEROID, ship.getX(), ship.getY(),
+                ASTEROID_DAMAGE, 0) && this.verbose) {
+            log(LogMessage.ASTEROID_HIT, ASTEROID_DAMAGE);
         }
     }
 
@@ -310,10 +672,11 @@ public class GameModel {
      * @required ship != null && ENEMY_DAMAGE > 0
      * @ensures ship takes damage and logs a message if verbose is true
      */
-    private void handleEnemyCollision() {
+    protected void handleEnemyCollision() {
         ship.takeDamage(ENEMY_DAMAGE);
-        if (this.verbose) {
-            logger.log("Hit by enemy! Health reduced by " + ENEMY_DAMAGE + ".");
+        if (!publish(GameEventType.COLLISION, EntityStore.ENEMY, ship.getX(), ship.getY(),
+                ENEMY_DAMAGE, 0) && this.verbose) {
+            log(LogMessage.ENEMY_HIT, ENEMY_DAMAGE);
         }
     }
 
@@ -332,7 +695,7 @@ public class GameModel {
         toRemove.add(bullet);  // Remove bullet
         toRemove.add(enemy); // Remove enemy
         // Also, record the shot hit using recordShotHit() to track successful hits.
-        this.statsTracker.recordShotHit();
+        recordShotHit(bullet.getX(), bullet.getY());
     }
 
     /**
@@ -359,7 +722,7 @@ public class GameModel {
     }
 
     /**
-     * Check and handle bullet collision
+     * Check and handle bullet collision, only the objects in the bullet's cell are visited.
      *      - If a Bullet collides with an Enemy, remove both the Enemy and the Bullet. No logging required.
      *      - record the shot hit using recordShotHit() to track successful hits.
      *              and, recordShotHit() is only called when a Bullet successfully hits an Enemy.
@@ -370,7 +733,7 @@ public class GameModel {
      * @ensures - if a Bullet collides with an Asteroid, the Bullet is removed.
      */
     private void bulletCollision(List<SpaceObject> toRemove, SpaceObject bullet) {
-        for (SpaceObject spaceObject : spaceObjects) {
+        for (SpaceObject spaceObject : spatialIndex.objectsAt(bullet.getX(), bullet.getY())) {
             // Check only Enemies and asteroid
             if (spaceObject == bullet) {
                 continue;
@@ -395,30 +758,58 @@ public class GameModel {
 
     /**
      * Detects and handles collisions between spaceObjects (Ship and Bullet collisions).
+     * <p>
+     * Collisions only happen between objects in the same cell, and every collision found is
+     * resolved by removing at least one of the objects involved. So only the cells an object
+     * was added to or moved into since the last check, and the ship's cell if the ship has
+     * moved, can hold a new collision. Only the objects in those cells are checked, which gives
+     * the same result as checking every object.
+     *
      * @requires SpaceObject != null && ship != null
      * @ensures - collisions are detected through the objectCollision method and
      *          - collisions are resolved according to spaceObject type and results in healing or taken damage.
      */
     public void checkCollisions() {
+        syncObjectList();
+        // Remove all collided objects in a single pass over the list
+        removeObjects(findCollisions());
+    }
+
+    /**
+     * Detects and handles the collisions in the cells marked since the last check.
+     * @return the collided objects, in the order they were found.
+     * @requires ship != null
+     */
+    private List<SpaceObject> findCollisions() {
         List<SpaceObject> toRemove = new ArrayList<>();
+        if (ship.getX() != checkedShipX || ship.getY() != checkedShipY) {
+            checkedShipX = ship.getX();
+            checkedShipY = ship.getY();
+            dirtyCells.add(checkedShipX, checkedShipY);
+        }
 
-        for (SpaceObject spaceObject : spaceObjects) {
+        for (int i = 0; i < dirtyCells.size(); i++) {
+            List<SpaceObject> cell = spatialIndex.objectsAt(dirtyCells.getX(i),
+                    dirtyCells.getY(i));
+            for (SpaceObject spaceObject : cell) {
 
-            // Skip checking Ships (No ships should be in this list)
-            if (spaceObject instanceof Ship) {
-                continue;
-            }
+                // Skip checking Ships (No ships should be in this list)
+                if (spaceObject instanceof Ship) {
+                    continue;
+                }
 
-            // Check and handle Ship collision
-            if (objectCollision(ship, spaceObject) && !(spaceObject instanceof Bullet)) {
-                shipCollision(toRemove, spaceObject);
-            }
-            //Check and handle Bullet Collision
-            if ((spaceObject instanceof Bullet)) {
-                bulletCollision(toRemove, spaceObject);
+                // Check and handle Ship collision
+                if (objectCollision(ship, spaceObject) && !(spaceObject instanceof Bullet)) {
+                    shipCollision(toRemove, spaceObject);
+                }
+                //Check and handle Bullet Collision
+                if ((spaceObject instanceof Bullet)) {
+                    bulletCollision(toRemove, spaceObject);
+                }
             }
         }
-        spaceObjects.removeAll(toRemove); // Remove all collided objects
+        dirtyCells.clear();
+        return toRemove;
     }
 
 
@@ -445,7 +836,22 @@ public class GameModel {
     }
 
     /**
-     *  Checks if the given SpaceObject is inside the game bounds.
+     * Checks if the given SpaceObject is inside the board of this game.
+     * @param spaceObject - the SpaceObject to check
+     * @return true if the SpaceObject is on the board, false otherwise
+     * @requires spaceObject != null
+     * @ensures that the result is true if 0 <= spaceObject.getX() < getWidth()
+     *          && 0 <= spaceObject.getY() < getHeight()
+     */
+    public boolean isOnBoard(SpaceObject spaceObject) {
+        return spaceObject != null && spaceObject.getX() >= 0
+                && spaceObject.getX() < width
+                && spaceObject.getY() >= 0
+                && spaceObject.getY() < height;
+    }
+
+    /**
+     *  Checks if the given SpaceObject is inside the default GAME_WIDTH by GAME_HEIGHT bounds.
      * @param spaceObject - the SpaceObject to check
      * @return true if the SpaceObject is in bounds, false otherwise
      * @requires spaceObject != null
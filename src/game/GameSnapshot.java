@@ -0,0 +1,217 @@
+package game;
+
+import game.achievements.ConcurrentStatsTracker;
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes and restores the full state of a GameModel in a compact binary form.
+ * <p>
+ * A snapshot holds the ship's position, health and score, every SpaceObject's type and
+ * position, the level, the spawn rate, the PlayerStatsTracker shot counters and the spawn
+ * Random's state, followed by a CRC32C checksum. Numbers are written as variable-length
+ * integers, so a typical board of a few dozen objects takes well under 1 KB.<br>
+ * Snapshots are written straight into a caller-supplied ByteBuffer, which can be reused for
+ * every snapshot, without building any intermediate objects. The checksum is computed with
+ * one CRC32C per thread, reset for each snapshot.<br>
+ * The shot counters of a ConcurrentStatsTracker are read as one snapshot, so shots recorded
+ * on another thread while the model is written cannot tear them.<br>
+ * The tracker's start time is not part of a snapshot.
+ */
+public class GameSnapshot {
+    private static final int MAGIC = 0x5347534E; // "SGSN"
+    private static final byte VERSION = 1;
+    private static final int CHECKSUM_BYTES = 4;
+
+    // Object type codes, shared with EntityStore
+    private static final byte BULLET = EntityStore.BULLET;
+    private static final byte ASTEROID = EntityStore.ASTEROID;
+    private static final byte ENEMY = EntityStore.ENEMY;
+    private static final byte HEALTH_POWER_UP = EntityStore.HEALTH_POWER_UP;
+    private static final byte SHIELD_POWER_UP = EntityStore.SHIELD_POWER_UP;
+
+    private static final ThreadLocal<CRC32C> CHECKSUMS = ThreadLocal.withInitial(CRC32C::new);
+
+    private GameSnapshot() {  }
+
+    /**
+     * Writes a snapshot of the model at the buffer's position and advances the position past it.
+     *
+     * @param model the model to snapshot.
+     * @param buffer the buffer to write into, e.g. a buffer reused between snapshots.
+     * @return the number of bytes written.
+     * @throws IllegalArgumentException if the model holds a SpaceObject of a type that cannot
+     *                                  be snapshotted.
+     * @throws BufferOverflowException if the buffer does not have enough space remaining.
+     * @requires model != null && buffer != null
+     */
+    public static int write(GameModel model, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+
+        Ship ship = model.getShip();
+        putVarInt(buffer, ship.getX());
+        putVarInt(buffer, ship.getY());
+        putVarInt(buffer, ship.getHealth());
+        putVarInt(buffer, ship.getScore());
+
+        putVarInt(buffer, model.getLevel());
+        putVarInt(buffer, model.getSpawnRate());
+        PlayerStatsTracker tracker = model.getStatsTracker();
+        if (tracker instanceof ConcurrentStatsTracker concurrent) {
+            long counts = concurrent.getCounts();
+            putVarInt(buffer, (int) (counts >>> 32));
+            putVarInt(buffer, (int) counts);
+        } else {
+            putVarInt(buffer, tracker.getShotsFired());
+            putVarInt(buffer, tracker.getShotsHit());
+        }
+        buffer.putLong(model.getRandom().getState());
+
+        List<SpaceObject> spaceObjects = model.getSpaceObjects();
+        putVarInt(buffer, spaceObjects.size());
+        for (SpaceObject spaceObject : spaceObjects) {
+            buffer.put(typeOf(spaceObject));
+            putVarInt(buffer, spaceObject.getX());
+            putVarInt(buffer, spaceObject.getY());
+        }
+
+        buffer.putInt(checksum(buffer, start, buffer.position()));
+        return buffer.position() - start;
+    }
+
+    /**
+     * Restores a snapshot from the buffer's position into the model, replacing its state.
+     * The checksum is verified before the model is changed. Restored objects are obtained from
+     * the model's object pool.
+     *
+     * @param buffer the buffer to read from, its position is advanced past the snapshot.
+     * @param model the model to restore into, it must have the board size it was written with.
+     * @throws IllegalArgumentException if the data is not a snapshot or fails its checksum.
+     * @requires buffer != null && model != null
+     */
+    public static void restore(ByteBuffer buffer, GameModel model) {
+        int start = buffer.position();
+        int end = verify(buffer, start);
+
+        Ship ship = model.getShip();
+        ship.restore(getVarInt(buffer), getVarInt(buffer), getVarInt(buffer),
+                getVarInt(buffer));
+
+        int lvl = getVarInt(buffer);
+        int spawnRate = getVarInt(buffer);
+        model.restoreProgress(lvl, spawnRate);
+        int shotsFired = getVarInt(buffer);
+        model.getStatsTracker().restoreCounts(shotsFired, getVarInt(buffer));
+        model.getRandom().setState(buffer.getLong());
+
+        model.clearObjects();
+        SpaceObjectPool pool = model.getObjectPool();
+        int count = getVarInt(buffer);
+        for (int i = 0; i < count; i++) {
+            byte type = buffer.get();
+            int x = getVarInt(buffer);
+            int y = getVarInt(buffer);
+            model.addObject(switch (type) {
+                case BULLET -> pool.bullet(x, y);
+                case ASTEROID -> pool.asteroid(x, y);
+                case ENEMY -> pool.enemy(x, y);
+                case HEALTH_POWER_UP -> pool.healthPowerUp(x, y);
+                case SHIELD_POWER_UP -> pool.shieldPowerUp(x, y);
+                default -> throw new IllegalArgumentException("Unknown object type " + type);
+            });
+        }
+        buffer.position(end);
+    }
+
+    /**
+     * Checks the header and checksum of the snapshot starting at start, leaving the buffer
+     * positioned after the header.
+     *
+     * @return the position just past the snapshot.
+     */
+    private static int verify(ByteBuffer buffer, int start) {
+        try {
+            return verifyFields(buffer, start);
+        } catch (BufferUnderflowException error) {
+            buffer.position(start);
+            throw new IllegalArgumentException("Truncated game snapshot");
+        }
+    }
+
+    private static int verifyFields(ByteBuffer buffer, int start) {
+        if (buffer.remaining() < 5 + CHECKSUM_BYTES || buffer.getInt() != MAGIC
+                || buffer.get() != VERSION) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        // Skip to the checksum by walking the variable-length fields once
+        int fieldsStart = buffer.position();
+        for (int i = 0; i < 8; i++) {
+            getVarInt(buffer);
+        }
+        buffer.position(buffer.position() + Long.BYTES);
+        int count = getVarInt(buffer);
+        for (int i = 0; i < count; i++) {
+            buffer.get();
+            getVarInt(buffer);
+            getVarInt(buffer);
+        }
+        int checksumAt = buffer.position();
+        if (buffer.getInt() != checksum(buffer, start, checksumAt)) {
+            throw new IllegalArgumentException("Game snapshot checksum mismatch");
+        }
+        int end = buffer.position();
+        buffer.position(fieldsStart);
+        return end;
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int to) {
+        int position = buffer.position();
+        int limit = buffer.limit();
+        buffer.limit(to).position(from);
+        CRC32C crc = CHECKSUMS.get();
+        crc.reset();
+        crc.update(buffer);
+        buffer.limit(limit).position(position);
+        return (int) crc.getValue();
+    }
+
+    private static byte typeOf(SpaceObject spaceObject) {
+        byte type = EntityStore.kindOf(spaceObject);
+        if (type == EntityStore.SHIP || type == EntityStore.OTHER) {
+            throw new IllegalArgumentException("Cannot snapshot " + spaceObject);
+        }
+        return type;
+    }
+
+    /**
+     * Writes a zig-zag encoded variable-length int, 1 byte for values in [-64, 63].
+     */
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        int zigZag = (value << 1) ^ (value >> 31);
+        while ((zigZag & ~0x7F) != 0) {
+            buffer.put((byte) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        buffer.put((byte) zigZag);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        int zigZag = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = buffer.get() & 0xFF;
+            zigZag |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed game snapshot");
+    }
+}
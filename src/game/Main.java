@@ -24,7 +24,7 @@ public class Main {
      * @return an initialised AchievementManager containing standard achievements
      */
     private static AchievementManager getAchievementManager() {
-        AchievementManager achievementManager = new AchievementManager(new FileHandler());
+        AchievementManager achievementManager = new AchievementManager(new JournalFile());
 
         addStandardAchievements(achievementManager);
         return achievementManager;
@@ -39,17 +39,11 @@ public class Main {
      * @requires achievementManager is not null
      */
     private static void addStandardAchievements(AchievementManager achievementManager) {
-        achievementManager.addAchievement(new GameAchievement(
-                "Enemy Exterminator",
-                "Destroy enough enemy ships to unlock."
-        ));
-        achievementManager.addAchievement(new GameAchievement(
-                "Survivor",
-                "Stay alive for increasing durations to unlock."
-        ));
-        achievementManager.addAchievement(new GameAchievement(
-                "Sharp Shooter",
-                "Improve your shooting accuracy to unlock."
-        ));
+        for (AchievementDefinition definition : AchievementDefinition.standard()) {
+            achievementManager.addAchievement(new GameAchievement(
+                    definition.getName(),
+                    definition.getDescription()
+            ));
+        }
     }
 }
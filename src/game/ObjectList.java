@@ -0,0 +1,119 @@
+package game;
+
+import game.core.SpaceObject;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * The list of SpaceObjects of a GameModel, which counts the changes made to it through the
+ * List interface.
+ * <p>
+ * GameModel hands this list out from getSpaceObjects(), and callers may add, remove or replace
+ * objects in it. Every such change, including set() and changes made through iterators and
+ * sub-lists, increments getModifications(), so the model can tell that its spatial index and
+ * scheduler no longer match the list. The model's own changes use append(), removeMarked() and
+ * reset(), which do not count.
+ */
+public class ObjectList extends AbstractList<SpaceObject> implements RandomAccess {
+    private final ArrayList<SpaceObject> objects = new ArrayList<>();
+    private long modifications;
+
+    /**
+     * Creates an empty list.
+     */
+    public ObjectList() {  }
+
+    /**
+     * Returns the number of changes made through the List interface since the list was
+     * created.
+     *
+     * @return the number of changes.
+     */
+    public long getModifications() {
+        return modifications;
+    }
+
+    /**
+     * Adds an object to the end of the list without counting a modification.
+     *
+     * @param object the object to add.
+     */
+    void append(SpaceObject object) {
+        modCount++;
+        objects.add(object);
+    }
+
+    /**
+     * Removes every object matching the filter, in a single pass, without counting a
+     * modification.
+     *
+     * @param filter selects the objects to remove.
+     */
+    void removeMarked(Predicate<? super SpaceObject> filter) {
+        modCount++;
+        objects.removeIf(filter);
+    }
+
+    /**
+     * Removes every object without counting a modification.
+     */
+    void reset() {
+        modCount++;
+        objects.clear();
+    }
+
+    @Override
+    public SpaceObject get(int index) {
+        return objects.get(index);
+    }
+
+    @Override
+    public int size() {
+        return objects.size();
+    }
+
+    @Override
+    public SpaceObject set(int index, SpaceObject element) {
+        modifications++;
+        return objects.set(index, element);
+    }
+
+    @Override
+    public void add(int index, SpaceObject element) {
+        modCount++;
+        modifications++;
+        objects.add(index, element);
+    }
+
+    @Override
+    public SpaceObject remove(int index) {
+        modCount++;
+        modifications++;
+        return objects.remove(index);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends SpaceObject> collection) {
+        modCount++;
+        modifications++;
+        return objects.addAll(collection);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super SpaceObject> filter) {
+        modCount++;
+        modifications++;
+        return objects.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        modifications++;
+        objects.clear();
+    }
+}
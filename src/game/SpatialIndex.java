@@ -0,0 +1,244 @@
+package game;
+
+import game.core.SpaceObject;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A uniform-grid cell-occupancy index over the SpaceObjects tracked by a GameModel.
+ * <p>
+ * Each occupied cell holds the objects currently at that coordinate, in the same relative
+ * order as they appear in the model's object list, so the first match in a cell is the same
+ * object a linear scan over the list would have found. Each object is given an increasing
+ * order number when it is added, and objects moved with move() are placed in their new cell by
+ * that number, so the order holds without rebuilding the index.<br>
+ * Cells are hashed through a CellTable, so the index works for any board size and for
+ * objects outside the board. A cell is released as soon as its last object leaves, and kept
+ * for reuse by the next cell to be occupied, so the index's memory depends only on the number
+ * of objects, not on how much of the board they have visited.
+ */
+public class SpatialIndex {
+    private final CellTable cellTable = new CellTable(); // Cell to position in cells
+    private final List<Cell> cells = new ArrayList<>(); // Occupied cells first, then spares
+    private int cellsInUse;
+    private int size;
+    private long nextOrder; // Order number given to the next object added
+
+    /**
+     * Creates an empty index.
+     */
+    public SpatialIndex() {  }
+
+    /**
+     * Returns the number of objects currently indexed.
+     *
+     * @return the number of indexed objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds the object at its current coordinate.
+     *
+     * @param object the object to index.
+     * @requires object != null
+     */
+    public void add(SpaceObject object) {
+        cellFor(object.getX(), object.getY()).insert(object, nextOrder++);
+        size++;
+    }
+
+    /**
+     * Removes the object from the cell of its current coordinate.
+     *
+     * @param object the object to remove.
+     * @return true if the object was indexed at its current coordinate, false otherwise.
+     * @requires object != null
+     */
+    public boolean remove(SpaceObject object) {
+        int cell = cellTable.get(object.getX(), object.getY());
+        if (cell == CellTable.ABSENT || cells.get(cell).removeObject(object) < 0) {
+            return false;
+        }
+        releaseIfEmpty(cell);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the object from the cell it was indexed at to the cell of its current coordinate,
+     * keeping its place in model order.
+     *
+     * @param object the object that has moved.
+     * @param fromX the x coordinate the object was indexed at.
+     * @param fromY the y coordinate the object was indexed at.
+     * @return true if the object was indexed at (fromX, fromY), false otherwise.
+     * @requires object != null
+     */
+    public boolean move(SpaceObject object, int fromX, int fromY) {
+        int cell = cellTable.get(fromX, fromY);
+        if (cell == CellTable.ABSENT) {
+            return false;
+        }
+        long order = cells.get(cell).removeObject(object);
+        if (order < 0) {
+            return false;
+        }
+        releaseIfEmpty(cell);
+        cellFor(object.getX(), object.getY()).insert(object, order);
+        return true;
+    }
+
+    /**
+     * Returns the objects at the given coordinate, in model order.
+     * The returned list must not be modified, and is only valid until the index next changes.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the objects at (x, y), or an empty list if there are none.
+     */
+    public List<SpaceObject> objectsAt(int x, int y) {
+        int cell = cellTable.get(x, y);
+        return cell == CellTable.ABSENT ? Collections.emptyList() : cells.get(cell);
+    }
+
+    /**
+     * Checks whether any object is indexed at the given coordinate.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return true if at least one object is at (x, y), false otherwise.
+     */
+    public boolean isOccupied(int x, int y) {
+        return !objectsAt(x, y).isEmpty();
+    }
+
+    /**
+     * Removes every object from the index.
+     * Only the cells written to since the last clear are visited.
+     */
+    public void clear() {
+        for (int i = 0; i < cellsInUse; i++) {
+            cells.get(i).clear();
+        }
+        cellsInUse = 0;
+        cellTable.clear();
+        size = 0;
+        nextOrder = 0;
+    }
+
+    /**
+     * Clears the index and re-adds every object of the given list in order.
+     *
+     * @param objects the objects to index.
+     * @requires objects != null
+     */
+    public void rebuild(List<SpaceObject> objects) {
+        clear();
+        for (SpaceObject object : objects) {
+            add(object);
+        }
+    }
+
+    private Cell cellFor(int x, int y) {
+        int cell = cellTable.get(x, y);
+        if (cell == CellTable.ABSENT) {
+            cell = cellsInUse++;
+            if (cell == cells.size()) {
+                cells.add(new Cell());
+            }
+            cells.get(cell).x = x;
+            cells.get(cell).y = y;
+            cellTable.put(x, y, cell);
+        }
+        return cells.get(cell);
+    }
+
+    /**
+     * Releases the cell if it has no objects left, moving the last occupied cell into its
+     * place and keeping the released cell as a spare.
+     */
+    private void releaseIfEmpty(int cell) {
+        Cell released = cells.get(cell);
+        if (!released.isEmpty()) {
+            return;
+        }
+        cellTable.remove(released.x, released.y);
+        int last = --cellsInUse;
+        if (cell != last) {
+            Cell moved = cells.get(last);
+            cells.set(cell, moved);
+            cells.set(last, released);
+            cellTable.put(moved.x, moved.y, cell);
+        }
+    }
+
+    /**
+     * The objects in one cell, sorted by their order numbers.
+     */
+    private static class Cell extends AbstractList<SpaceObject> {
+        private int x; // The coordinate of the cell while it is occupied
+        private int y;
+        private SpaceObject[] objects = new SpaceObject[2];
+        private long[] orders = new long[2];
+        private int size;
+
+        @Override
+        public SpaceObject get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return objects[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(objects, 0, size, null);
+            size = 0;
+        }
+
+        private void insert(SpaceObject object, long order) {
+            if (size == objects.length) {
+                objects = Arrays.copyOf(objects, size * 2);
+                orders = Arrays.copyOf(orders, size * 2);
+            }
+            int index = size;
+            while (index > 0 && orders[index - 1] > order) {
+                objects[index] = objects[index - 1];
+                orders[index] = orders[index - 1];
+                index--;
+            }
+            objects[index] = object;
+            orders[index] = order;
+            size++;
+        }
+
+        /**
+         * Removes the first occurrence of the object, by identity.
+         *
+         * @return the order number of the removed object, or -1 if it was not in the cell.
+         */
+        private long removeObject(SpaceObject object) {
+            for (int i = 0; i < size; i++) {
+                if (objects[i] == object) {
+                    long order = orders[i];
+                    System.arraycopy(objects, i + 1, objects, i, size - i - 1);
+                    System.arraycopy(orders, i + 1, orders, i, size - i - 1);
+                    objects[--size] = null;
+                    return order;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package game;
+
+import java.util.Random;
+
+/**
+ * A Random whose internal state can be read and restored.
+ * <p>
+ * Uses the same linear congruential generator as java.util.Random, so for the same seed it
+ * produces exactly the same sequence of values, but keeps the 48-bit state in a field of its
+ * own so that a game can be snapshotted and resumed mid-sequence.
+ */
+public class StatefulRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // Set through setSeed() by the Random constructor, so it must not have an initialiser
+    private long state;
+
+    /**
+     * Creates a generator with a seed that is unique for this instance, like new Random().
+     */
+    public StatefulRandom() {
+        super();
+    }
+
+    /**
+     * Creates a generator with the given seed, like new Random(seed).
+     *
+     * @param seed the initial seed.
+     */
+    public StatefulRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * Returns the current 48-bit generator state.
+     *
+     * @return the state, which setState() accepts to resume the sequence from this point.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restores a state returned by getState().
+     *
+     * @param state the generator state.
+     */
+    public void setState(long state) {
+        this.state = state & MASK;
+    }
+}
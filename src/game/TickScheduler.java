@@ -0,0 +1,179 @@
+package game;
+
+import game.core.Cadenced;
+import game.core.SpaceObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Groups SpaceObjects by cadence and ticks each group only on the ticks where it acts.
+ * <p>
+ * Objects that implement Cadenced are placed in the group for their cadence, every other
+ * object is ticked on every tick. A group is created the first time an object with a new
+ * cadence is added, so new kinds of objects are scheduled without any change to the model.<br>
+ * Within a group, objects are ticked in the order they were added.
+ */
+public class TickScheduler {
+    private final List<Group> groups = new ArrayList<>();
+    private int size;
+
+    /**
+     * Receives the objects whose position changed during tick().
+     */
+    @FunctionalInterface
+    public interface MoveListener {
+        /**
+         * Called after the object's tick changed its position.
+         *
+         * @param object the object that moved.
+         * @param fromX the x coordinate before the tick.
+         * @param fromY the y coordinate before the tick.
+         */
+        void moved(SpaceObject object, int fromX, int fromY);
+    }
+
+    /**
+     * Creates an empty scheduler.
+     */
+    public TickScheduler() {  }
+
+    /**
+     * Returns the cadence an object is scheduled with.
+     *
+     * @param object the object.
+     * @return its cadence if it implements Cadenced, 1 otherwise.
+     * @requires object != null
+     */
+    public static int cadenceOf(SpaceObject object) {
+        return object instanceof Cadenced cadenced ? Math.max(1, cadenced.getCadence()) : 1;
+    }
+
+    /**
+     * Returns the number of objects scheduled.
+     *
+     * @return the number of objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds the object to the group for its cadence.
+     *
+     * @param object the object to schedule.
+     * @requires object != null
+     */
+    public void add(SpaceObject object) {
+        groupFor(cadenceOf(object)).objects.add(object);
+        size++;
+    }
+
+    /**
+     * Removes every occurrence of the given objects.
+     * Only the groups for the cadences of the removed objects are visited.
+     *
+     * @param removed the objects to remove, compared by identity.
+     * @requires removed != null
+     */
+    public void removeAll(Set<SpaceObject> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        for (Group group : groups) {
+            if (group.holdsAnyOf(removed)) {
+                int before = group.objects.size();
+                group.objects.removeIf(removed::contains);
+                size -= before - group.objects.size();
+            }
+        }
+    }
+
+    /**
+     * Removes every object from the scheduler.
+     */
+    public void clear() {
+        for (Group group : groups) {
+            group.objects.clear();
+        }
+        size = 0;
+    }
+
+    /**
+     * Clears the scheduler and adds every object of the given list in order.
+     *
+     * @param objects the objects to schedule.
+     * @requires objects != null
+     */
+    public void rebuild(List<SpaceObject> objects) {
+        clear();
+        for (SpaceObject object : objects) {
+            add(object);
+        }
+    }
+
+    /**
+     * Ticks every group whose cadence divides the tick, reporting each object that moved.
+     *
+     * @param tick the tick value passed through to the objects tick() method.
+     * @param listener receives each object whose position changed.
+     * @return the number of objects ticked.
+     * @requires listener != null
+     */
+    public int tick(int tick, MoveListener listener) {
+        int ticked = 0;
+        for (Group group : groups) {
+            if (tick % group.cadence != 0) {
+                continue;
+            }
+            List<SpaceObject> objects = group.objects;
+            for (int i = 0; i < objects.size(); i++) {
+                SpaceObject object = objects.get(i);
+                int x = object.getX();
+                int y = object.getY();
+                object.tick(tick);
+                if (object.getX() != x || object.getY() != y) {
+                    listener.moved(object, x, y);
+                }
+            }
+            ticked += objects.size();
+        }
+        return ticked;
+    }
+
+    private Group groupFor(int cadence) {
+        for (Group group : groups) {
+            if (group.cadence == cadence) {
+                return group;
+            }
+        }
+        Group group = new Group(cadence);
+        groups.add(group);
+        return group;
+    }
+
+    /**
+     * The objects scheduled with one cadence.
+     */
+    private static class Group {
+        private final int cadence;
+        private final List<SpaceObject> objects = new ArrayList<>();
+
+        private Group(int cadence) {
+            this.cadence = cadence;
+        }
+
+        private boolean holdsAnyOf(Set<SpaceObject> removed) {
+            if (objects.isEmpty()) {
+                return false;
+            }
+            for (SpaceObject object : removed) {
+                if (cadenceOf(object) == cadence) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package game.achievements;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Describes how an achievement's progress is computed from a PlayerStatsTracker, and which
+ * of the tracker's counters the computation depends on.
+ * <p>
+ * An AchievementEngine only re-evaluates a definition when one of its counters has changed,
+ * so the progress function must not read anything else that changes during the game.
+ */
+public class AchievementDefinition {
+    /** The name of the standard achievement mastered at 20 hits. */
+    public static final String ENEMY_EXTERMINATOR = "Enemy Exterminator";
+    /** The name of the standard achievement mastered after 120 seconds. */
+    public static final String SURVIVOR = "Survivor";
+    /** The name of the standard achievement based on accuracy. */
+    public static final String SHARP_SHOOTER = "Sharp Shooter";
+
+    private final String name;
+    private final String description;
+    private final ToDoubleFunction<PlayerStatsTracker> progress;
+    private final Set<StatCounter> dependencies;
+
+    /**
+     * Creates a definition.
+     * @param name the unique name of the achievement.
+     * @param description the achievement description.
+     * @param progress computes the progress, between 0.0 and 1.0, from the tracker.
+     * @param dependencies the counters the progress is computed from.
+     * @throws IllegalArgumentException if the name or description is null or empty, progress
+     *                                  is null or there are no dependencies.
+     */
+    public AchievementDefinition(String name, String description,
+                                 ToDoubleFunction<PlayerStatsTracker> progress,
+                                 StatCounter... dependencies) {
+        if (name == null || name.isEmpty() || description == null || description.isEmpty()) {
+            throw new IllegalArgumentException("The name and description should "
+                    + "not be null nor empty");
+        }
+        if (progress == null || dependencies.length == 0) {
+            throw new IllegalArgumentException("An achievement needs a progress function "
+                    + "and at least one counter");
+        }
+        this.name = name;
+        this.description = description;
+        this.progress = progress;
+        this.dependencies = EnumSet.of(dependencies[0], dependencies);
+    }
+
+    /**
+     * Returns the standard achievements of the game: Enemy Exterminator, mastered at 20
+     * hits, Survivor, mastered after 120 seconds, and Sharp Shooter, based on accuracy once
+     * more than 10 shots have been fired.
+     * @return the standard definitions.
+     */
+    public static List<AchievementDefinition> standard() {
+        return List.of(
+                new AchievementDefinition(ENEMY_EXTERMINATOR,
+                        "Destroy enough enemy ships to unlock.",
+                        tracker -> Math.min(1.0, tracker.getShotsHit() / 20.0),
+                        StatCounter.SHOTS_HIT),
+                new AchievementDefinition(SURVIVOR,
+                        "Stay alive for increasing durations to unlock.",
+                        tracker -> Math.min(1.0, tracker.getElapsedSeconds() / 120.0),
+                        StatCounter.ELAPSED_SECONDS),
+                new AchievementDefinition(SHARP_SHOOTER,
+                        "Improve your shooting accuracy to unlock.",
+                        tracker -> tracker.getShotsFired() <= 10 ? 0.0
+                                : Math.min(1.0, tracker.getAccuracy() / 0.99),
+                        StatCounter.SHOTS_FIRED, StatCounter.SHOTS_HIT));
+    }
+
+    /**
+     * Returns the unique name of the achievement.
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the description of the achievement.
+     * @return the description.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the counters the progress depends on.
+     * @return an unmodifiable set of the counters.
+     */
+    public Set<StatCounter> getDependencies() {
+        return Collections.unmodifiableSet(dependencies);
+    }
+
+    /**
+     * Computes the progress from the tracker.
+     * @param tracker the tracker to read from.
+     * @return the progress.
+     * @requires tracker != null
+     */
+    public double progress(PlayerStatsTracker tracker) {
+        return progress.applyAsDouble(tracker);
+    }
+}
@@ -0,0 +1,148 @@
+package game.achievements;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the progress of registered achievements up to date from a PlayerStatsTracker.
+ * <p>
+ * Each evaluate() reads every StatCounter once and only re-computes the achievements that
+ * depend on a counter that changed since the previous evaluate(), so its cost does not grow
+ * with the number of achievements whose counters are unchanged.<br>
+ * Tier transitions are detected as progress is set and reported once to every TierListener.
+ * An achievement that reaches Master is also recorded by the AchievementManager.
+ */
+public class AchievementEngine {
+    private final AchievementManager manager;
+    private final List<List<Entry>> dependents = new ArrayList<>(); // By StatCounter ordinal
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Entry> dirty = new ArrayList<>();
+    private final List<TierListener> listeners = new ArrayList<>();
+    private final long[] counters = new long[StatCounter.values().length];
+    private boolean evaluated; // Whether counters holds the values of a previous evaluate()
+
+    /**
+     * Creates an engine with no achievements.
+     * @param manager the manager that holds the achievements and records mastery.
+     * @throws IllegalArgumentException if manager is null.
+     */
+    public AchievementEngine(AchievementManager manager) {
+        if (manager == null) {
+            throw new IllegalArgumentException("manager is null");
+        }
+        this.manager = manager;
+        for (int i = 0; i < counters.length; i++) {
+            dependents.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Registers a definition. The achievement of the same name is looked up in the manager,
+     * and a GameAchievement is added to the manager if there is none.
+     * The achievement is evaluated by the next evaluate().
+     * @param definition the definition to evaluate.
+     * @return the achievement whose progress the definition sets.
+     * @throws IllegalArgumentException if definition is null.
+     */
+    public Achievement register(AchievementDefinition definition) {
+        if (definition == null) {
+            throw new IllegalArgumentException("definition is null");
+        }
+        Achievement achievement = manager.getAchievement(definition.getName());
+        if (achievement == null) {
+            achievement = new GameAchievement(definition.getName(), definition.getDescription());
+            manager.addAchievement(achievement);
+        }
+        Entry entry = new Entry(definition, achievement);
+        if (entry.tier == Tier.MASTER) {
+            manager.recordMastered(achievement);
+        }
+        entries.add(entry);
+        for (StatCounter counter : definition.getDependencies()) {
+            dependents.get(counter.ordinal()).add(entry);
+        }
+        markDirty(entry);
+        return achievement;
+    }
+
+    /**
+     * Adds a listener for tier transitions.
+     * @param listener the listener.
+     * @requires listener != null
+     */
+    public void addTierListener(TierListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the number of registered definitions.
+     * @return the number of definitions.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Re-evaluates the achievements whose counters changed since the previous call.
+     * @param tracker the tracker to read the counters from.
+     * @return the number of achievements evaluated.
+     * @requires tracker != null
+     */
+    public int evaluate(PlayerStatsTracker tracker) {
+        for (StatCounter counter : StatCounter.values()) {
+            long value = counter.read(tracker);
+            if (!evaluated || value != counters[counter.ordinal()]) {
+                counters[counter.ordinal()] = value;
+                for (Entry entry : dependents.get(counter.ordinal())) {
+                    markDirty(entry);
+                }
+            }
+        }
+        evaluated = true;
+        int count = dirty.size();
+        for (Entry entry : dirty) {
+            entry.dirty = false;
+            entry.achievement.setProgress(entry.definition.progress(tracker));
+            Tier tier = Tier.of(entry.achievement);
+            if (tier != entry.tier) {
+                Tier from = entry.tier;
+                entry.tier = tier;
+                tierChanged(entry.achievement, from, tier);
+            }
+        }
+        dirty.clear();
+        return count;
+    }
+
+    private void markDirty(Entry entry) {
+        if (!entry.dirty) {
+            entry.dirty = true;
+            dirty.add(entry);
+        }
+    }
+
+    private void tierChanged(Achievement achievement, Tier from, Tier to) {
+        if (to == Tier.MASTER) {
+            manager.recordMastered(achievement);
+        }
+        for (TierListener listener : listeners) {
+            listener.tierChanged(achievement, from, to);
+        }
+    }
+
+    /**
+     * A registered definition and the tier its achievement was last seen at.
+     */
+    private static class Entry {
+        private final AchievementDefinition definition;
+        private final Achievement achievement;
+        private Tier tier;
+        private boolean dirty;
+
+        private Entry(AchievementDefinition definition, Achievement achievement) {
+            this.definition = definition;
+            this.achievement = achievement;
+            this.tier = Tier.of(achievement);
+        }
+    }
+}
@@ -48,6 +48,7 @@ public class AchievementManager {
 
     /**
      * Sets the progress of the specified achievement to a given amount.
+     * Mastery is recorded by logAchievementMastered() or an AchievementEngine.
      * @param achievementName the name of the achievement.
      * @param absoluteProgressValue the value the achievement's progress will be set to.
      */
@@ -63,6 +64,15 @@ public class AchievementManager {
         achievement.setProgress(absoluteProgressValue);
     }
 
+    /**
+     * Returns the achievement registered under the given name.
+     * @param achievementName the name of the achievement.
+     * @return the achievement, or null if none is registered under the name.
+     */
+    public Achievement getAchievement(String achievementName) {
+        return this.achievementMap.get(achievementName);
+    }
+
     /**
      * Checks all registered achievements. For any achievement that is 
      * mastered and has not yet been logged, this method logs the event 
@@ -70,17 +80,26 @@ public class AchievementManager {
      */
     public void logAchievementMastered() {
         for (Achievement achievement : this.achievementMap.values()) {
-            if (achievement.getCurrentTier().equals("Master")
-                    && !loggedAchievements.contains(achievement.getName())) {
-                // Mark as logged
-                loggedAchievements.add(achievement.getName());
-                
-                // log via AchieveemntFile
-                this.achievementFile.save(achievement.getName());
+            if (achievement.getCurrentTier().equals(Tier.MASTER.getLabel())) {
+                recordMastered(achievement);
             }
         }
     }
 
+    /**
+     * Logs a mastered achievement via AchievementFile, unless it has already been logged,
+     * and marks the achievement as logged.
+     * Used by an AchievementEngine, which detects mastery as progress changes.
+     * @param achievement the mastered achievement.
+     * @requires achievement != null
+     */
+    public void recordMastered(Achievement achievement) {
+        // Mark as logged, and log via AchievementFile the first time
+        if (loggedAchievements.add(achievement.getName())) {
+            this.achievementFile.save(achievement.getName());
+        }
+    }
+
     /**
      * Returns a list of all registered achievements.
      * @return a List of Achievement objects.
@@ -0,0 +1,424 @@
+package game.achievements;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An AchievementFile that keeps the progress of every achievement of many players, indexed
+ * in memory by player and achievement name.
+ * <p>
+ * Each player and achievement pair owns one fixed-size record in the store file, so an update
+ * overwrites the record in place and the file never holds more than one record per pair.
+ * Lookups are answered from the in-memory index without touching the file.<br>
+ * flush() and close() write a companion index file holding every record without its padding.
+ * Opening a store loads that index when it is up to date, and only scans the store file when
+ * the index is missing or stale, for example after a crash. The index is removed by the first
+ * change made after it was written, so a stale index is never loaded.
+ * <p>
+ * As an AchievementFile, the store saves and reads the mastered achievements of the current
+ * player.
+ */
+public class AchievementStore implements AchievementFile, AutoCloseable {
+    /**
+     * The player used by the AchievementFile methods until setPlayer is called.
+     */
+    public static final String DEFAULT_PLAYER = "player";
+    /**
+     * The most bytes of UTF-8 a player name may take.
+     */
+    public static final int MAX_PLAYER_BYTES = 40;
+    /**
+     * The most bytes of UTF-8 an achievement name may take.
+     */
+    public static final int MAX_NAME_BYTES = 70;
+
+    // Record layout: player length, player, name length, name, progress, padding
+    static final int RECORD_SIZE = 128;
+    private static final int NAME_OFFSET = 2 + MAX_PLAYER_BYTES;
+    private static final int PROGRESS_OFFSET = NAME_OFFSET + 2 + MAX_NAME_BYTES;
+    private static final int INDEX_MAGIC = 0x41434958;
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Map<String, Map<String, Entry>> players = new HashMap<>();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final ByteBuffer progress = ByteBuffer.allocate(Double.BYTES);
+    private String fileLocation = DEFAULT_LOCATION;
+    private String player = DEFAULT_PLAYER;
+    private FileChannel channel; // Null until the store is first used
+    private int records;
+    private boolean indexCurrent; // Whether the index file matches the store file
+
+    /**
+     * Creates a store at DEFAULT_LOCATION. The file is opened when the store is first used.
+     */
+    public AchievementStore() {  }
+
+    /**
+     * Sets the file location of the store. The current store file is flushed and closed,
+     * and the new one is opened when the store is next used.
+     * @param fileLocation the new file location
+     */
+    @Override
+    public void setFileLocation(String fileLocation) {
+        close();
+        this.fileLocation = fileLocation;
+    }
+
+    /**
+     * Gets the location of the store file.
+     * @return the file location
+     */
+    @Override
+    public String getFileLocation() {
+        return fileLocation;
+    }
+
+    /**
+     * Sets the player whose achievements save() and read() refer to.
+     * @param player the player name.
+     * @throws IllegalArgumentException if player is null, empty or longer than
+     *                                  MAX_PLAYER_BYTES in UTF-8.
+     */
+    public void setPlayer(String player) {
+        encode(player, MAX_PLAYER_BYTES, "player");
+        this.player = player;
+    }
+
+    /**
+     * Returns the player whose achievements save() and read() refer to.
+     * @return the player name.
+     */
+    public String getPlayer() {
+        return player;
+    }
+
+    /**
+     * Records the achievement named by data as mastered by the current player.
+     * @param data the name of the mastered achievement.
+     * @throws IllegalArgumentException if data is null, empty or longer than MAX_NAME_BYTES
+     *                                  in UTF-8.
+     */
+    @Override
+    public void save(String data) {
+        put(player, data, 1.0);
+    }
+
+    /**
+     * Returns the achievements the current player has mastered, in the order they were first
+     * stored.
+     * @return a list of achievement names.
+     */
+    @Override
+    public List<String> read() {
+        List<String> mastered = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : getProgress(player).entrySet()) {
+            if (Tier.of(entry.getValue()) == Tier.MASTER) {
+                mastered.add(entry.getKey());
+            }
+        }
+        return mastered;
+    }
+
+    /**
+     * Stores the progress of a player's achievement, overwriting the stored progress if any.
+     * @param player the player name.
+     * @param achievement the achievement name.
+     * @param value the progress, between 0.0 and 1.0.
+     * @throws IllegalArgumentException if the player or achievement is null, empty or too long
+     *                                  for a record.
+     */
+    public void put(String player, String achievement, double value) {
+        open();
+        if (channel == null) {
+            return;
+        }
+        Map<String, Entry> achievements = players.get(player);
+        Entry entry = achievements == null ? null : achievements.get(achievement);
+        if (entry != null && Double.compare(entry.progress, value) == 0) {
+            return;
+        }
+        byte[] playerBytes = null;
+        byte[] nameBytes = null;
+        if (entry == null) {
+            playerBytes = encode(player, MAX_PLAYER_BYTES, "player");
+            nameBytes = encode(achievement, MAX_NAME_BYTES, "achievement");
+        }
+        try {
+            invalidateIndex();
+            if (entry == null) {
+                entry = new Entry(records, value);
+                writeRecord(entry.slot, playerBytes, nameBytes, value);
+                records++;
+                players.computeIfAbsent(player, key -> new LinkedHashMap<>())
+                        .put(achievement, entry);
+            } else {
+                progress.clear();
+                progress.putDouble(value).flip();
+                writeFully(progress, (long) entry.slot * RECORD_SIZE + PROGRESS_OFFSET);
+                entry.progress = value;
+            }
+        } catch (IOException error) {
+            System.err.println("Error writing file: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether progress is stored for a player's achievement.
+     * @param player the player name.
+     * @param achievement the achievement name.
+     * @return true if the store holds a record for the pair.
+     */
+    public boolean contains(String player, String achievement) {
+        open();
+        Map<String, Entry> achievements = players.get(player);
+        return achievements != null && achievements.containsKey(achievement);
+    }
+
+    /**
+     * Returns the stored progress of a player's achievement.
+     * @param player the player name.
+     * @param achievement the achievement name.
+     * @return the progress, or 0.0 if none is stored.
+     */
+    public double getProgress(String player, String achievement) {
+        open();
+        Map<String, Entry> achievements = players.get(player);
+        Entry entry = achievements == null ? null : achievements.get(achievement);
+        return entry == null ? 0.0 : entry.progress;
+    }
+
+    /**
+     * Returns the stored progress of every achievement of a player.
+     * @param player the player name.
+     * @return the progress by achievement name, in the order first stored.
+     */
+    public Map<String, Double> getProgress(String player) {
+        open();
+        Map<String, Double> progress = new LinkedHashMap<>();
+        Map<String, Entry> achievements = players.get(player);
+        if (achievements != null) {
+            for (Map.Entry<String, Entry> entry : achievements.entrySet()) {
+                progress.put(entry.getKey(), entry.getValue().progress);
+            }
+        }
+        return progress;
+    }
+
+    /**
+     * Returns the players with stored progress.
+     * @return an unmodifiable view of the player names.
+     */
+    public Set<String> getPlayers() {
+        open();
+        return Collections.unmodifiableSet(players.keySet());
+    }
+
+    /**
+     * Returns the number of records in the store.
+     * @return the number of player and achievement pairs stored.
+     */
+    public int size() {
+        open();
+        return records;
+    }
+
+    /**
+     * Forces the store file to disk and writes its index.
+     */
+    public void flush() {
+        if (channel == null || indexCurrent) {
+            return;
+        }
+        try {
+            channel.force(false);
+            writeIndex();
+            indexCurrent = true;
+        } catch (IOException error) {
+            System.err.println("Error writing file: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Flushes and closes the store file. The store is opened again when it is next used.
+     */
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        flush();
+        try {
+            channel.close();
+        } catch (IOException error) {
+            System.err.println("Error closing file: " + error.getMessage());
+        }
+        channel = null;
+        players.clear();
+        records = 0;
+    }
+
+    private Path indexPath() {
+        return Paths.get(fileLocation + INDEX_SUFFIX);
+    }
+
+    private void open() {
+        if (channel != null) {
+            return;
+        }
+        try {
+            channel = FileChannel.open(Paths.get(fileLocation), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int expected = (int) (channel.size() / RECORD_SIZE);
+            indexCurrent = loadIndex(expected);
+            if (!indexCurrent) {
+                players.clear();
+                scan(expected);
+            }
+            records = expected;
+        } catch (IOException error) {
+            System.err.println("Error reading file: " + error.getMessage());
+        }
+    }
+
+    /**
+     * Loads the index file if it holds exactly the expected number of records.
+     * @return whether the index was loaded.
+     */
+    private boolean loadIndex(int expected) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(indexPath())))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != expected) {
+                return false;
+            }
+            for (int slot = 0; slot < expected; slot++) {
+                String player = in.readUTF();
+                String achievement = in.readUTF();
+                players.computeIfAbsent(player, key -> new LinkedHashMap<>())
+                        .put(achievement, new Entry(slot, in.readDouble()));
+            }
+            return true;
+        } catch (NoSuchFileException error) {
+            return false;
+        } catch (IOException error) {
+            // A damaged index is rebuilt from the store file
+            players.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Rebuilds the index by reading every record of the store file.
+     */
+    private void scan(int expected) throws IOException {
+        for (int slot = 0; slot < expected; slot++) {
+            record.clear();
+            long position = (long) slot * RECORD_SIZE;
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) < 0) {
+                    throw new EOFException("Record " + slot + " is incomplete");
+                }
+            }
+            String player = decode(0);
+            String achievement = decode(NAME_OFFSET);
+            players.computeIfAbsent(player, key -> new LinkedHashMap<>())
+                    .put(achievement, new Entry(slot, record.getDouble(PROGRESS_OFFSET)));
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        Entry[] bySlot = new Entry[records];
+        String[][] keys = new String[records][];
+        for (Map.Entry<String, Map<String, Entry>> achievements : players.entrySet()) {
+            for (Map.Entry<String, Entry> entry : achievements.getValue().entrySet()) {
+                bySlot[entry.getValue().slot] = entry.getValue();
+                keys[entry.getValue().slot] = new String[] {achievements.getKey(), entry.getKey()};
+            }
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(indexPath())))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(records);
+            for (int slot = 0; slot < records; slot++) {
+                out.writeUTF(keys[slot][0]);
+                out.writeUTF(keys[slot][1]);
+                out.writeDouble(bySlot[slot].progress);
+            }
+        }
+    }
+
+    private void invalidateIndex() throws IOException {
+        if (indexCurrent) {
+            Files.deleteIfExists(indexPath());
+            indexCurrent = false;
+        }
+    }
+
+    private void writeRecord(int slot, byte[] playerBytes, byte[] nameBytes, double value)
+            throws IOException {
+        record.clear();
+        Arrays.fill(record.array(), (byte) 0);
+        record.putShort((short) playerBytes.length).put(playerBytes);
+        record.position(NAME_OFFSET);
+        record.putShort((short) nameBytes.length).put(nameBytes);
+        record.position(PROGRESS_OFFSET);
+        record.putDouble(value);
+        record.position(0);
+        writeFully(record, (long) slot * RECORD_SIZE);
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private String decode(int offset) {
+        int length = record.getShort(offset);
+        return new String(record.array(), offset + 2, length, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encode(String value, int maxBytes, String what) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("The " + what + " should not be null nor empty");
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException("The " + what + " " + value
+                    + " is longer than " + maxBytes + " bytes");
+        }
+        return bytes;
+    }
+
+    /**
+     * The record slot of a player's achievement and its stored progress.
+     */
+    private static class Entry {
+        private final int slot;
+        private double progress;
+
+        private Entry(int slot, double progress) {
+            this.slot = slot;
+            this.progress = progress;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package game.achievements;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A PlayerStatsTracker whose shot counters can be updated from several threads at once,
+ * such as shots fired on the UI key thread and shots hit on the tick thread.
+ * <p>
+ * Each counter is a LongAdder, so recording a shot never takes a lock and threads recording
+ * at the same time do not contend on one memory location.<br>
+ * getCounts() and getAccuracy() read both counters as of one instant: they read the hits and
+ * shots fired, then read them again, and retry until both reads agree. As the counters only
+ * grow, agreeing reads mean neither changed in between. restoreCounts(), the only write that
+ * can lower a counter, bumps a version stamp around its writes, and reads made while it runs
+ * are retried too.<br>
+ * The accuracy only stays at most 1.0 if each shot is recorded before it can hit, as
+ * GameController does by recording it before the bullet is fired.
+ */
+public class ConcurrentStatsTracker extends PlayerStatsTracker {
+    private final LongAdder shotsFired = new LongAdder();
+    private final LongAdder shotsHit = new LongAdder();
+    private final AtomicLong restores = new AtomicLong(); // Odd while restoreCounts() runs
+
+    /**
+     * Constructs a ConcurrentStatsTracker with a custom start time.
+     * @param startTime the time when the tracking began
+     */
+    public ConcurrentStatsTracker(long startTime) {
+        super(startTime);
+    }
+
+    /**
+     * Constructs a ConcurrentStatsTracker with the current system time (in milliseconds) as
+     * the start time.
+     */
+    public ConcurrentStatsTracker() {
+        super();
+    }
+
+    /**
+     * Records the player firing one shot. Safe to call from any thread.
+     */
+    @Override
+    public void recordShotFired() {
+        shotsFired.increment();
+    }
+
+    /**
+     * Records the player hitting one target. Safe to call from any thread.
+     */
+    @Override
+    public void recordShotHit() {
+        shotsHit.increment();
+    }
+
+    /**
+     * Restores the shot counters, e.g. when loading a saved game.
+     * The start time is not changed. Concurrent readers see either the old or the restored
+     * counts, but shots recorded while the counts are restored may be lost.
+     * @param shotsFired the number of shots fired
+     * @param shotsHit the number of shots hit
+     * @requires shotsFired >= 0 && shotsHit >= 0
+     */
+    @Override
+    public synchronized void restoreCounts(int shotsFired, int shotsHit) {
+        restores.incrementAndGet();
+        this.shotsHit.reset();
+        this.shotsFired.reset();
+        this.shotsFired.add(shotsFired);
+        this.shotsHit.add(shotsHit);
+        restores.incrementAndGet();
+    }
+
+    /**
+     * Returns both shot counters as read at one instant, shots fired in the high 32 bits and
+     * shots hit in the low 32 bits. Each counter is capped at Integer.MAX_VALUE, so neither
+     * can carry into the other.
+     * @return the packed counters.
+     */
+    public long getCounts() {
+        while (true) {
+            long version = restores.get();
+            if ((version & 1) == 0) {
+                long hit = shotsHit.sum();
+                long fired = shotsFired.sum();
+                if (hit == shotsHit.sum() && fired == shotsFired.sum()
+                        && restores.get() == version) {
+                    return Math.min(fired, Integer.MAX_VALUE) << 32
+                            | Math.min(hit, Integer.MAX_VALUE);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Returns the total number of shots that the player has fired.
+     * @return the number of shots fired
+     */
+    @Override
+    public int getShotsFired() {
+        return (int) shotsFired.sum();
+    }
+
+    /**
+     * Returns the total number of shots the player has successfully hit.
+     * @return the number of shots hit
+     */
+    @Override
+    public int getShotsHit() {
+        return (int) shotsHit.sum();
+    }
+
+    /**
+     * Returns the player's shooting accuracy as shots hit divided by shots fired, or 0.0 if
+     * no shots have been fired, from a single snapshot of both counters.
+     * @return the shooting accuracy as a decimal.
+     */
+    @Override
+    public double getAccuracy() {
+        long snapshot = getCounts();
+        long fired = snapshot >>> 32;
+        if (fired == 0) {
+            return 0.0;
+        }
+        return (double) (snapshot & 0xFFFF_FFFFL) / fired;
+    }
+}
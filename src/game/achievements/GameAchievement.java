@@ -68,14 +68,7 @@ public class GameAchievement implements Achievement {
      */
     @Override
     public String getCurrentTier() {
-
-        if (this.progress < 0.5) {
-            return "Novice";
-        } else if (this.progress < 0.999) {
-            return "Expert";
-        } else {
-            return "Master";
-        }
+        return Tier.of(this.progress).getLabel();
     }
 
 }
@@ -0,0 +1,360 @@
+package game.achievements;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * An AchievementFile backed by an append-only journal, written by a background thread.
+ * <p>
+ * save() only queues the entry, so no disk I/O happens on the caller's thread. A writer
+ * thread, started by the first save(), appends every queued entry to a long-lived channel as
+ * one batch, and syncs the journal to disk according to its SyncPolicy.<br>
+ * Entries are never overwritten. Once compactEvery entries have been appended, the journal is
+ * compacted: it is rewritten with each distinct entry once, in the order first saved, and
+ * atomically replaces the old journal. read() returns the entries saved so far, including
+ * those still queued.
+ */
+public class JournalFile implements AchievementFile, AutoCloseable {
+    /**
+     * When the journal is forced to disk.
+     */
+    public enum SyncPolicy {
+        /** Never, the operating system writes the journal back when it chooses. */
+        NONE,
+        /** After every batch of entries is appended. */
+        PER_BATCH,
+        /** At most once per sync interval, while there are unsynced entries. */
+        INTERVAL
+    }
+
+    /**
+     * The default number of appended entries between compactions.
+     */
+    public static final int DEFAULT_COMPACT_EVERY = 1024;
+    /**
+     * The default time between syncs under SyncPolicy.INTERVAL.
+     */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalMillis;
+    private final int compactEvery;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<String> pending = new ArrayDeque<>(); // Guarded by lock
+    private String fileLocation = DEFAULT_LOCATION; // Guarded by lock
+    private long queued; // Entries saved, guarded by lock
+    private long written; // Entries appended or dropped by the writer, guarded by lock
+    private boolean closed; // Guarded by lock
+    private Thread writer; // Guarded by lock
+    private Thread shutdownHook; // Closes the journal on exit, guarded by lock
+
+    // Only touched by the writer thread
+    private FileChannel channel;
+    private Path channelPath;
+    private boolean unsynced;
+    private long lastSync;
+    private int appendedSinceCompaction;
+
+    /**
+     * Creates a journal at DEFAULT_LOCATION that is synced after every batch.
+     */
+    public JournalFile() {
+        this(SyncPolicy.PER_BATCH, DEFAULT_SYNC_INTERVAL_MILLIS, DEFAULT_COMPACT_EVERY);
+    }
+
+    /**
+     * Creates a journal at DEFAULT_LOCATION.
+     * @param syncPolicy when the journal is forced to disk.
+     * @param syncIntervalMillis the time between syncs under SyncPolicy.INTERVAL.
+     * @param compactEvery the number of appended entries between compactions.
+     * @throws IllegalArgumentException if syncPolicy is null, or syncIntervalMillis or
+     *                                  compactEvery is not positive.
+     */
+    public JournalFile(SyncPolicy syncPolicy, long syncIntervalMillis, int compactEvery) {
+        if (syncPolicy == null || syncIntervalMillis < 1 || compactEvery < 1) {
+            throw new IllegalArgumentException("A journal needs a sync policy and a positive "
+                    + "sync interval and compaction threshold");
+        }
+        this.syncPolicy = syncPolicy;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Sets the file location to save to. Entries already saved are written to the previous
+     * location first.
+     * @param fileLocation the new file location
+     */
+    @Override
+    public void setFileLocation(String fileLocation) {
+        synchronized (lock) {
+            awaitWritten();
+            this.fileLocation = fileLocation;
+        }
+    }
+
+    /**
+     * Gets the location currently being saved to.
+     * @return the file location
+     */
+    @Override
+    public String getFileLocation() {
+        synchronized (lock) {
+            return fileLocation;
+        }
+    }
+
+    /**
+     * Queues the given data to be appended to the journal, followed by a new-line character.
+     * @param data the data to be saved.
+     * @throws IllegalStateException if the journal has been closed.
+     */
+    @Override
+    public void save(String data) {
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("The journal is closed");
+            }
+            if (writer == null) {
+                startWriter();
+            }
+            pending.add(data);
+            queued++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits for every saved entry to be written, then returns all entries in the journal.
+     * @return a list of saved data entries.
+     */
+    @Override
+    public List<String> read() {
+        String location;
+        synchronized (lock) {
+            awaitWritten();
+            location = fileLocation;
+        }
+        List<String> dataList = new ArrayList<>();
+        // Not mapped, so compaction can replace the journal as soon as the reader is closed
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(location))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                dataList.add(line.trim());
+            }
+        } catch (NoSuchFileException error) {
+            // Nothing has been saved yet
+        } catch (IOException error) {
+            System.err.println("Error reading file: " + error.getMessage());
+        }
+        return dataList;
+    }
+
+    /**
+     * Waits until every entry saved so far has been written.
+     */
+    public void flush() {
+        synchronized (lock) {
+            awaitWritten();
+        }
+    }
+
+    /**
+     * Writes every queued entry, syncs the journal unless the policy is NONE, and stops the
+     * writer thread. Entries can no longer be saved afterwards.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        Thread hook;
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+            running = writer;
+            hook = shutdownHook;
+            shutdownHook = null;
+        }
+        if (hook != null && hook != Thread.currentThread()) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException error) {
+                // The JVM is already shutting down and will run the hook
+            }
+        }
+        if (running != null && running != Thread.currentThread()) {
+            try {
+                running.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void awaitWritten() {
+        boolean interrupted = false;
+        while (written < queued) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void startWriter() {
+        writer = new Thread(this::runWriter, "achievement-journal");
+        writer.setDaemon(true);
+        writer.start();
+        shutdownHook = new Thread(this::close);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    private void runWriter() {
+        List<String> batch = new ArrayList<>();
+        String location;
+        while (true) {
+            synchronized (lock) {
+                while (pending.isEmpty() && !closed && !syncDue()) {
+                    try {
+                        lock.wait(syncPolicy == SyncPolicy.INTERVAL && unsynced
+                                ? syncIntervalMillis : 0);
+                    } catch (InterruptedException e) {
+                        closed = true;
+                    }
+                }
+                if (pending.isEmpty() && closed) {
+                    break;
+                }
+                batch.addAll(pending);
+                pending.clear();
+                location = fileLocation;
+            }
+            write(batch, location);
+            synchronized (lock) {
+                written += batch.size();
+                lock.notifyAll();
+            }
+            batch.clear();
+        }
+        if (syncPolicy != SyncPolicy.NONE) {
+            sync();
+        }
+        closeChannel();
+    }
+
+    private boolean syncDue() {
+        return syncPolicy == SyncPolicy.INTERVAL && unsynced
+                && System.currentTimeMillis() - lastSync >= syncIntervalMillis;
+    }
+
+    /**
+     * Appends the batch, then syncs and compacts as needed. Runs on the writer thread.
+     */
+    private void write(List<String> batch, String location) {
+        try {
+            if (!batch.isEmpty()) {
+                openChannel(Paths.get(location));
+                StringBuilder text = new StringBuilder();
+                for (String data : batch) {
+                    text.append(data).append('\n');
+                }
+                ByteBuffer bytes = StandardCharsets.UTF_8.encode(text.toString());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                unsynced = true;
+                appendedSinceCompaction += batch.size();
+            }
+            if (syncPolicy == SyncPolicy.PER_BATCH || syncDue()) {
+                sync();
+            }
+            if (appendedSinceCompaction >= compactEvery) {
+                compact();
+            }
+        } catch (IOException error) {
+            System.err.println("Error writing file: " + error.getMessage());
+            closeChannel();
+        }
+    }
+
+    private void openChannel(Path path) throws IOException {
+        if (channel != null && path.equals(channelPath)) {
+            return;
+        }
+        if (channel != null && syncPolicy != SyncPolicy.NONE) {
+            sync();
+        }
+        closeChannel();
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        channelPath = path;
+        appendedSinceCompaction = 0;
+    }
+
+    private void sync() {
+        if (channel == null || !unsynced) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException error) {
+            System.err.println("Error syncing file: " + error.getMessage());
+        }
+        unsynced = false;
+        lastSync = System.currentTimeMillis();
+    }
+
+    /**
+     * Rewrites the journal with each distinct entry once, then replaces the old journal.
+     */
+    private void compact() throws IOException {
+        Path path = channelPath;
+        closeChannel();
+        LinkedHashSet<String> entries = new LinkedHashSet<>(
+                Files.readAllLines(path, StandardCharsets.UTF_8));
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        Files.write(compacted, entries, StandardCharsets.UTF_8);
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            out.force(true);
+        }
+        try {
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException error) {
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        openChannel(path);
+        unsynced = false;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException error) {
+            System.err.println("Error closing file: " + error.getMessage());
+        }
+        channel = null;
+        channelPath = null;
+    }
+}
@@ -0,0 +1,311 @@
+package game.achievements;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the lines of a log file, such as one written by an AchievementFile, lazily from a
+ * memory mapping of the file.
+ * <p>
+ * Each line is presented as a Line, a view of the mapped bytes that the reader moves to the
+ * next line as iteration advances. No String is created for a line unless the caller asks
+ * for one, so lines that are skipped cost no allocation. Like FileHandler.read(), lines end
+ * at "\n", "\r" or "\r\n", and a line excludes any leading or trailing whitespace.<br>
+ * The file is mapped in windows of at most a segment, so files larger than the address range
+ * of a single mapping can be read. A line must fit within one segment.<br>
+ * A mapping stays valid until it is garbage collected, even after close(), and on some
+ * platforms a mapped file cannot be truncated, replaced or deleted until then. Use the reader
+ * for scanning logs that are not rewritten, such as archived ones, and not for files an
+ * AchievementFile keeps saving to.
+ */
+public class MappedLogReader implements Iterable<MappedLogReader.Line>, AutoCloseable {
+    /**
+     * The default largest number of bytes mapped at a time.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int segmentSize;
+
+    /**
+     * Opens the log file at the given location.
+     * @param fileLocation the location of the file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public MappedLogReader(String fileLocation) throws IOException {
+        this(Paths.get(fileLocation), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the log file at the given path.
+     * @param path the path of the file.
+     * @param segmentSize the largest number of bytes mapped at a time.
+     * @throws IOException if the file cannot be opened.
+     * @throws IllegalArgumentException if segmentSize is not positive.
+     */
+    MappedLogReader(Path path, int segmentSize) throws IOException {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("The segment size should be positive");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns an iterator over the lines of the file. The iterator returns the same Line on
+     * every call to next(), moved to the next line.
+     * @return an iterator over the lines.
+     */
+    @Override
+    public Iterator<Line> iterator() {
+        return new LineIterator();
+    }
+
+    /**
+     * Returns a sequential stream of the lines of the file. As with iterator(), a Line is only
+     * valid until the stream advances, so it must be converted before being kept.
+     * @return a stream of the lines.
+     */
+    public Stream<Line> lines() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Closes the file. Mappings already made stay readable, and keep the file mapped, until
+     * they are garbage collected.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException error) {
+            System.err.println("Error closing file: " + error.getMessage());
+        }
+    }
+
+    /**
+     * A line of the file, as a view of the mapped bytes.
+     */
+    public static final class Line {
+        private MappedByteBuffer window;
+        private int start; // Index in window of the first byte of the line
+        private int end; // Index in window after the last byte of the line
+        private long number;
+
+        private Line() {  }
+
+        /**
+         * Returns the number of the line in the file, counting from 1.
+         * @return the line number.
+         */
+        public long getNumber() {
+            return number;
+        }
+
+        /**
+         * Returns the length of the line in bytes.
+         * @return the length.
+         */
+        public int length() {
+            return end - start;
+        }
+
+        /**
+         * Returns whether the line has no content.
+         * @return true if the line is empty or only whitespace.
+         */
+        public boolean isEmpty() {
+            return end == start;
+        }
+
+        /**
+         * Returns the byte at the given index of the line.
+         * @param index the index, from 0 to length() - 1.
+         * @return the byte.
+         * @throws IndexOutOfBoundsException if index is outside the line.
+         */
+        public byte byteAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("Index " + index + " is outside the line");
+            }
+            return window.get(start + index);
+        }
+
+        /**
+         * Returns whether the line starts with the UTF-8 encoding of the given prefix.
+         * @param prefix the prefix to test.
+         * @return true if the line starts with prefix.
+         * @requires prefix != null
+         */
+        public boolean startsWith(String prefix) {
+            return regionMatches(prefix.getBytes(StandardCharsets.UTF_8), false);
+        }
+
+        /**
+         * Returns whether the line is exactly the UTF-8 encoding of the given text.
+         * @param text the text to compare with.
+         * @return true if the line equals text.
+         * @requires text != null
+         */
+        public boolean contentEquals(String text) {
+            return regionMatches(text.getBytes(StandardCharsets.UTF_8), true);
+        }
+
+        /**
+         * Returns whether the line starts with, or when whole is true consists of, the given
+         * bytes. Callers that test many lines against one value can encode it once with this.
+         * @param bytes the bytes to compare with.
+         * @param whole whether the line must have no further bytes.
+         * @return true if the bytes match.
+         * @requires bytes != null
+         */
+        public boolean regionMatches(byte[] bytes, boolean whole) {
+            if (whole ? bytes.length != length() : bytes.length > length()) {
+                return false;
+            }
+            for (int i = 0; i < bytes.length; i++) {
+                if (window.get(start + i) != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Decodes the line as UTF-8.
+         * @return the content of the line.
+         */
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = window.get(start + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Finds each line in turn, mapping the next window of the file when a line runs past the
+     * end of the current one.
+     */
+    private class LineIterator implements Iterator<Line> {
+        private final Line line = new Line();
+        private final ByteBuffer next = ByteBuffer.allocate(1); // Byte after a window's end
+        private MappedByteBuffer window;
+        private long windowStart; // File position of the first byte of window
+        private int position; // Index in window of the next line
+        private boolean found; // Whether line holds a line not yet returned by next()
+        private long number;
+
+        @Override
+        public boolean hasNext() {
+            if (!found) {
+                found = advance();
+            }
+            return found;
+        }
+
+        @Override
+        public Line next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            found = false;
+            return line;
+        }
+
+        private boolean advance() {
+            if (windowStart + position >= size) {
+                return false;
+            }
+            if (window == null || position >= window.limit()) {
+                map(windowStart + position);
+            }
+            int newline = find(position);
+            while (newline < 0 && windowStart + window.limit() < size) {
+                if (position == 0) {
+                    throw new IllegalStateException("Line " + (number + 1)
+                            + " is longer than a segment of " + segmentSize + " bytes");
+                }
+                map(windowStart + position);
+                newline = find(position);
+            }
+            int end = newline < 0 ? window.limit() : newline;
+            int start = position;
+            position = newline < 0 ? window.limit() : newline + 1;
+            if (newline >= 0 && window.get(newline) == '\r' && followedByNewline(newline)) {
+                position++; // Skip the "\n" of a "\r\n" terminator
+            }
+            // Trim the line terminator and whitespace, as String.trim() does
+            while (start < end && (window.get(start) & 0xff) <= ' ') {
+                start++;
+            }
+            while (end > start && (window.get(end - 1) & 0xff) <= ' ') {
+                end--;
+            }
+            line.window = window;
+            line.start = start;
+            line.end = end;
+            line.number = ++number;
+            return true;
+        }
+
+        private int find(int from) {
+            for (int i = from; i < window.limit(); i++) {
+                byte b = window.get(i);
+                if (b == '\n' || b == '\r') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns whether the byte after the given index of the window is a "\n", reading it
+         * from the file if the index is the last of the window.
+         */
+        private boolean followedByNewline(int index) {
+            if (index + 1 < window.limit()) {
+                return window.get(index + 1) == '\n';
+            }
+            long after = windowStart + index + 1;
+            if (after >= size) {
+                return false;
+            }
+            try {
+                next.clear();
+                return channel.read(next, after) == 1 && next.get(0) == '\n';
+            } catch (IOException error) {
+                throw new UncheckedIOException(error);
+            }
+        }
+
+        private void map(long start) {
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(segmentSize, size - start));
+            } catch (IOException error) {
+                throw new UncheckedIOException(error);
+            }
+            windowStart = start;
+            position = 0;
+        }
+    }
+}
@@ -41,6 +41,17 @@ public class PlayerStatsTracker {
 
     }
 
+    /**
+     * Restores the shot counters, e.g. when loading a saved game.
+     * The start time is not changed.
+     * @param shotsFired the number of shots fired
+     * @param shotsHit the number of shots hit
+     */
+    public void restoreCounts(int shotsFired, int shotsHit) {
+        this.shotsFired = shotsFired;
+        this.targetHit = shotsHit;
+    }
+
     /**
      * Returns the total number of shots that the player has fired.
      * @return the number of shots fired
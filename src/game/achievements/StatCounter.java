@@ -0,0 +1,28 @@
+package game.achievements;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * The counters of a PlayerStatsTracker that achievements can depend on.
+ */
+public enum StatCounter {
+    SHOTS_FIRED(PlayerStatsTracker::getShotsFired),
+    SHOTS_HIT(PlayerStatsTracker::getShotsHit),
+    ELAPSED_SECONDS(PlayerStatsTracker::getElapsedSeconds);
+
+    private final ToLongFunction<PlayerStatsTracker> reader;
+
+    StatCounter(ToLongFunction<PlayerStatsTracker> reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the current value of this counter.
+     * @param tracker the tracker to read from.
+     * @return the counter's value.
+     * @requires tracker != null
+     */
+    public long read(PlayerStatsTracker tracker) {
+        return reader.applyAsLong(tracker);
+    }
+}
@@ -0,0 +1,56 @@
+package game.achievements;
+
+/**
+ * The tiers of an achievement, by progress.
+ */
+public enum Tier {
+    NOVICE("Novice"),
+    EXPERT("Expert"),
+    MASTER("Master");
+
+    private final String label;
+
+    Tier(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the name of the tier, as returned by Achievement.getCurrentTier().
+     * @return "Novice", "Expert" or "Master".
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the tier of the given progress: NOVICE below 0.5, EXPERT below 0.999 and
+     * MASTER from 0.999.
+     * @param progress the progress, between 0.0 and 1.0.
+     * @return the tier of the progress.
+     */
+    public static Tier of(double progress) {
+        if (progress < 0.5) {
+            return NOVICE;
+        } else if (progress < 0.999) {
+            return EXPERT;
+        }
+        return MASTER;
+    }
+
+    /**
+     * Returns the tier of an achievement, by the label its getCurrentTier() returns.
+     * @param achievement the achievement.
+     * @return the tier with the achievement's label, or the tier of its progress if no tier
+     *         has that label.
+     * @requires achievement != null
+     */
+    public static Tier of(Achievement achievement) {
+        String label = achievement.getCurrentTier();
+        for (Tier tier : values()) {
+            if (tier.label.equals(label)) {
+                return tier;
+            }
+        }
+        return of(achievement.getProgress());
+    }
+}
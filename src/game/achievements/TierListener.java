@@ -0,0 +1,15 @@
+package game.achievements;
+
+/**
+ * Receives an achievement's tier transitions from an AchievementEngine.
+ */
+@FunctionalInterface
+public interface TierListener {
+    /**
+     * Called once when an achievement moves to a new tier.
+     * @param achievement the achievement.
+     * @param from the previous tier.
+     * @param to the new tier.
+     */
+    void tierChanged(Achievement achievement, Tier from, Tier to);
+}
@@ -17,15 +17,15 @@ public class Asteroid extends DescendingEnemy {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the shared ObjectGraphic with the appropriate text representation and image path.<br>
      * <p>
      * The text representation is "🌑".<br>
      * The image path is "assets/asteroid.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate ObjectGraphic, EntityGraphic.ASTEROID.getGraphic().
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("🌑", "assets/asteroid.png");
+        return EntityGraphic.ASTEROID.getGraphic();
     }
 }
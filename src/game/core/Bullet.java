@@ -28,15 +28,15 @@ public class Bullet extends ObjectWithPosition {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the shared ObjectGraphic with the appropriate text representation and image path.<br>
      * <p>
      * The text representation is "🔺".<br>
      * The image path is "assets/bullet.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate ObjectGraphic, EntityGraphic.BULLET.getGraphic().
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("🔺", "assets/bullet.png"); // Emoji representation for the bullet
+        return EntityGraphic.BULLET.getGraphic();
     }
 }
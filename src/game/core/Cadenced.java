@@ -0,0 +1,17 @@
+package game.core;
+
+/**
+ * Represents a SpaceObject that only acts on some game ticks.
+ * <p>
+ * tick(tick) must leave the object unchanged unless tick is a multiple of getCadence(), and
+ * the cadence of an object must never change. This lets the game skip the object on every
+ * other tick. SpaceObjects that do not implement Cadenced are ticked on every tick.
+ */
+public interface Cadenced {
+    /**
+     * Returns the number of ticks between the ticks this object acts on.
+     *
+     * @return the cadence, at least 1.
+     */
+    int getCadence();
+}
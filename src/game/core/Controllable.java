@@ -1,6 +1,5 @@
 package game.core;
 
-import game.GameModel;
 import game.exceptions.BoundaryExceededException;
 import game.utility.Direction;
 import static game.GameModel.*;
@@ -9,6 +8,8 @@ import static game.GameModel.*;
  * Represents a controllable object in the space game.
  */
 public abstract class Controllable extends ObjectWithPosition {
+    private int boardWidth = GAME_WIDTH;
+    private int boardHeight = GAME_HEIGHT;
 
     /**
      * Creates a controllable object at the given coordinates.
@@ -20,13 +21,26 @@ public abstract class Controllable extends ObjectWithPosition {
         super(x, y);
     }
 
+    /**
+     * Sets the size of the board the Controllable is allowed to move within.<br>
+     * By default, this is GAME_WIDTH by GAME_HEIGHT.
+     *
+     * @param width the board width.
+     * @param height the board height.
+     * @requires width > 0 && height > 0
+     */
+    public void setBoardSize(int width, int height) {
+        this.boardWidth = width;
+        this.boardHeight = height;
+    }
+
     /**
      * Moves the Controllable by one in the direction given.<br>
      * Throws BoundaryExceededException if the Controllable is attempting to move outside the game boundaries.<br>
      * A controllable is considered outside the game boundaries if they are at: <br>
-     * x-coordinate &gt;= GAME_WIDTH<br>
+     * x-coordinate &gt;= board width (GAME_WIDTH unless set by setBoardSize)<br>
      * x-coordinate &lt; 0<br>
-     * y-coordinate &gt;= GAME_HEIGHT<br>
+     * y-coordinate &gt;= board height (GAME_HEIGHT unless set by setBoardSize)<br>
      * y-coordinate &lt; 0<br>
      * <p>
      * Argument given to the exception is "Cannot move {up/down/left/right}. Out of bounds!" depending on the direction.
@@ -47,7 +61,7 @@ public abstract class Controllable extends ObjectWithPosition {
             case RIGHT -> x++;
         }
 
-        if (!GameModel.isInBounds(this)) {
+        if (x < 0 || x >= boardWidth || y < 0 || y >= boardHeight) {
             x = tempX;
             y = tempY;
             throw new BoundaryExceededException("Cannot move "
@@ -3,7 +3,11 @@ package game.core;
 /**
  * Represents a movable and interactive object in the space game that moves downwards.
  */
-public abstract class DescendingEnemy extends ObjectWithPosition {
+public abstract class DescendingEnemy extends ObjectWithPosition implements Cadenced {
+    /**
+     * The number of ticks between moves.
+     */
+    public static final int CADENCE = 10;
 
     /**
      * Creates a movable and interactive object at the given coordinates that moves downwards.
@@ -22,8 +26,18 @@ public abstract class DescendingEnemy extends ObjectWithPosition {
      */
     @Override
     public void tick(int tick) {
-        if (tick % 10 == 0) {
+        if (tick % CADENCE == 0) {
             y++; // Move downward
         }
     }
+
+    /**
+     * Returns the number of ticks between moves.
+     *
+     * @return CADENCE.
+     */
+    @Override
+    public int getCadence() {
+        return CADENCE;
+    }
 }
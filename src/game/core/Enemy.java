@@ -18,15 +18,15 @@ public class Enemy extends DescendingEnemy {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the shared ObjectGraphic with the appropriate text representation and image path.<br>
      * <p>
      * The text representation is "👾".<br>
      * The image path is "assets/enemy.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate ObjectGraphic, EntityGraphic.ENEMY.getGraphic().
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("👾", "assets/enemy.png"); // Emoji representation for the enemy
+        return EntityGraphic.ENEMY.getGraphic();
     }
 }
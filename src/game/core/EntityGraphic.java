@@ -0,0 +1,72 @@
+package game.core;
+
+import game.ui.ObjectGraphic;
+
+/**
+ * The shared ObjectGraphic of each kind of SpaceObject.
+ * <p>
+ * Every object of a kind renders the same text and image, so render() returns the single
+ * ObjectGraphic held here instead of allocating one per object per frame. A UI can key its
+ * decoded sprites by the EntityGraphic, e.g. in an EnumMap, or by the identity of the
+ * ObjectGraphic returned by render(), instead of by image path.
+ */
+public enum EntityGraphic {
+    SHIP("🚀", "assets/ship.png"),
+    BULLET("🔺", "assets/bullet.png"),
+    ENEMY("👾", "assets/enemy.png"),
+    ASTEROID("🌑", "assets/asteroid.png"),
+    HEALTH_POWER_UP("❤️", "assets/health.png"),
+    SHIELD_POWER_UP("💠", "assets/shield.png");
+
+    private final String text;
+    private final String imagePath;
+    private final ObjectGraphic graphic;
+
+    EntityGraphic(String text, String imagePath) {
+        this.text = text;
+        this.imagePath = imagePath;
+        this.graphic = new ObjectGraphic(text, imagePath);
+    }
+
+    /**
+     * Returns the shared ObjectGraphic of this kind. It must not be modified.
+     *
+     * @return the ObjectGraphic, the same instance on every call.
+     */
+    public ObjectGraphic getGraphic() {
+        return graphic;
+    }
+
+    /**
+     * Returns the text representation of this kind.
+     *
+     * @return the text representation.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the path of the image of this kind.
+     *
+     * @return the image path.
+     */
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    /**
+     * Returns the EntityGraphic holding the given ObjectGraphic, compared by identity.
+     *
+     * @param graphic an ObjectGraphic returned by render().
+     * @return the kind of the graphic, or null if it is not a shared graphic.
+     */
+    public static EntityGraphic of(ObjectGraphic graphic) {
+        for (EntityGraphic entityGraphic : values()) {
+            if (entityGraphic.graphic == graphic) {
+                return entityGraphic;
+            }
+        }
+        return null;
+    }
+}
@@ -17,16 +17,16 @@ public class HealthPowerUp extends PowerUp {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the shared ObjectGraphic with the appropriate text representation and image path.<br>
      * <p>
      * The text representation is "❤️".<br>
      * The image path is "assets/health.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate ObjectGraphic, EntityGraphic.HEALTH_POWER_UP.getGraphic().
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("❤️", "assets/health.png");
+        return EntityGraphic.HEALTH_POWER_UP.getGraphic();
     }
 
     /**
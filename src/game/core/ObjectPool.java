@@ -0,0 +1,107 @@
+package game.core;
+
+import java.util.function.Supplier;
+
+/**
+ * A bounded free-list of recycled objects of a single type.
+ * <p>
+ * Objects handed out by obtain() are repositioned rather than newly constructed whenever a
+ * released object is available. Only objects that were obtained from this pool and are still
+ * in use are accepted by release(), so releasing an object twice, or releasing an object that
+ * was constructed directly, has no effect.<br>
+ * A pool with a capacity of 0 never retains objects but still counts every obtain as a miss.
+ *
+ * @param <T> the pooled type.
+ */
+public class ObjectPool<T extends ObjectWithPosition> {
+    /** Pool state of an object that was not obtained from a pool. */
+    static final byte UNPOOLED = 0;
+    /** Pool state of an object that was obtained and not yet released. */
+    static final byte IN_USE = 1;
+    /** Pool state of an object that has been released. */
+    static final byte RELEASED = 2;
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final Object[] free;
+    private int freeCount;
+
+    private long hits;
+    private long misses;
+    private int inUse;
+    private int highWaterMark;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param name the name reported in the statistics.
+     * @param capacity the maximum number of released objects to retain.
+     * @param factory creates a new object when the pool is empty.
+     * @requires capacity >= 0 && factory != null
+     */
+    public ObjectPool(String name, int capacity, Supplier<T> factory) {
+        this.name = name;
+        this.factory = factory;
+        this.free = new Object[capacity];
+    }
+
+    /**
+     * Returns an object at the given coordinates, recycling a released one if available.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return an object at (x, y) that is in use until released.
+     */
+    @SuppressWarnings("unchecked")
+    public T obtain(int x, int y) {
+        T object;
+        if (freeCount > 0) {
+            object = (T) free[--freeCount];
+            free[freeCount] = null;
+            hits++;
+        } else {
+            object = factory.get();
+            misses++;
+        }
+        object.x = x;
+        object.y = y;
+        object.poolState = IN_USE;
+        object.owner = this;
+        object.generation++;
+        inUse++;
+        if (inUse > highWaterMark) {
+            highWaterMark = inUse;
+        }
+        return object;
+    }
+
+    /**
+     * Returns an object to the pool once it is no longer part of the game.
+     * The object must not be used by the caller afterwards.
+     *
+     * @param object the object to release.
+     * @return true if the object was obtained from this pool and was in use, false otherwise,
+     *         e.g. if it was obtained from another pool.
+     * @requires object != null
+     */
+    public boolean release(T object) {
+        if (object.poolState != IN_USE || object.owner != this) {
+            return false;
+        }
+        object.poolState = RELEASED;
+        inUse--;
+        if (freeCount < free.length) {
+            free[freeCount++] = object;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a snapshot of this pool's counters.
+     *
+     * @return the current pool statistics.
+     */
+    public PoolStatistics getStatistics() {
+        return new PoolStatistics(name, hits, misses, inUse, highWaterMark, freeCount);
+    }
+}
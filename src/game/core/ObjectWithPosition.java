@@ -12,6 +12,18 @@ public abstract class ObjectWithPosition implements SpaceObject {
      * The y coordinate of the Object
      */
     protected int y;
+    /**
+     * The state of the Object in its ObjectPool, UNPOOLED if it was not obtained from a pool
+     */
+    byte poolState = ObjectPool.UNPOOLED;
+    /**
+     * The ObjectPool the Object was last obtained from, null if it was not obtained from a pool
+     */
+    ObjectPool<?> owner;
+    /**
+     * The number of times the Object has been obtained from an ObjectPool
+     */
+    int generation;
 
     /**
      * Creates a movable and interactive object at the given coordinates.
@@ -34,6 +46,16 @@ public abstract class ObjectWithPosition implements SpaceObject {
         return y;
     }
 
+    /**
+     * Returns the number of times this Object has been obtained from an ObjectPool.
+     * A recycled Object represents a new object each time it is obtained, so the generation
+     * tells the lifetimes of one instance apart.
+     * @return the generation of the Object, 0 if it was never obtained from a pool.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
     /**
      * Returns a string representation of the Object.
      * @requires x != null && y != null
@@ -0,0 +1,92 @@
+package game.core;
+
+/**
+ * An immutable snapshot of the usage counters of an ObjectPool, used to size the pool.
+ */
+public class PoolStatistics {
+    private final String name;
+    private final long hits;
+    private final long misses;
+    private final int inUse;
+    private final int highWaterMark;
+    private final int free;
+
+    /**
+     * Creates a snapshot of pool counters.
+     *
+     * @param name the name of the pooled type.
+     * @param hits the number of obtains served by a recycled object.
+     * @param misses the number of obtains that had to allocate a new object.
+     * @param inUse the number of pooled objects currently obtained and not yet released.
+     * @param highWaterMark the largest number of objects that have been in use at once.
+     * @param free the number of recycled objects currently held by the pool.
+     */
+    public PoolStatistics(String name, long hits, long misses, int inUse, int highWaterMark,
+                          int free) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.inUse = inUse;
+        this.highWaterMark = highWaterMark;
+        this.free = free;
+    }
+
+    /**
+     * Returns the name of the pooled type.
+     * @return the name of the pooled type.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of obtains served by a recycled object.
+     * @return the number of pool hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of obtains that had to allocate a new object.
+     * @return the number of pool misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of pooled objects currently in use.
+     * @return the number of objects in use.
+     */
+    public int getInUse() {
+        return inUse;
+    }
+
+    /**
+     * Returns the largest number of objects that have been in use at once.
+     * A pool with at least this capacity would never miss once warmed up.
+     * @return the high-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Returns the number of recycled objects currently held by the pool.
+     * @return the number of free objects.
+     */
+    public int getFree() {
+        return free;
+    }
+
+    /**
+     * Returns a string representation of the statistics.
+     * @return the name followed by every counter, eg. Bullet[hits=3, misses=1, ...]
+     */
+    @Override
+    public String toString() {
+        return name + "[hits=" + hits + ", misses=" + misses + ", inUse=" + inUse
+                + ", highWaterMark=" + highWaterMark + ", free=" + free + "]";
+    }
+}
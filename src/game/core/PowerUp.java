@@ -3,7 +3,11 @@ package game.core;
 /**
  * Represents a power-up in the game.
  */
-public abstract class PowerUp extends ObjectWithPosition implements PowerUpEffect {
+public abstract class PowerUp extends ObjectWithPosition implements PowerUpEffect, Cadenced {
+    /**
+     * The number of ticks between moves.
+     */
+    public static final int CADENCE = 10;
 
     /**
      * Creates a new PowerUp with the given coordinate.
@@ -23,8 +27,18 @@ public abstract class PowerUp extends ObjectWithPosition implements PowerUpEffec
      */
     @Override
     public void tick(int tick) {
-        if (tick % 10 == 0) {
+        if (tick % CADENCE == 0) {
             y++;
         }
     }
+
+    /**
+     * Returns the number of ticks between moves.
+     *
+     * @return CADENCE.
+     */
+    @Override
+    public int getCadence() {
+        return CADENCE;
+    }
 }
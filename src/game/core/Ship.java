@@ -28,6 +28,16 @@ public class Ship extends Controllable {
         this.score = STARTING_SCORE;
     }
 
+    /**
+     * Constructs a Ship at the specified position with default health.
+     *
+     * @param x the initial x coordinate.
+     * @param y the initial y coordinate.
+     */
+    public Ship(int x, int y) {
+        this(x, y, STARTING_HEALTH);
+    }
+
     /**
      * Constructs a Ship with default position and health.<br>
      * <p>
@@ -40,16 +50,32 @@ public class Ship extends Controllable {
     }
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.<br>
+     * Returns the shared ObjectGraphic with the appropriate text representation and image path.<br>
      * <p>
      * The text representation is "🚀".<br>
      * The image path is "assets/ship.png".<br>
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate ObjectGraphic, EntityGraphic.SHIP.getGraphic().
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("🚀", "assets/ship.png"); // Emoji representation for the ship
+        return EntityGraphic.SHIP.getGraphic();
+    }
+
+    /**
+     * Restores the ship's position, health and score, e.g. when loading a saved game.<br>
+     * Unlike heal() and takeDamage(), the health is not capped.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param health the health.
+     * @param score the score.
+     */
+    public void restore(int x, int y, int health, int score) {
+        this.x = x;
+        this.y = y;
+        this.health = health;
+        this.score = score;
     }
 
     /**
@@ -9,9 +9,10 @@ import game.ui.Tickable;
 public interface SpaceObject extends Tickable {
 
     /**
-     * Returns a new ObjectGraphic with the appropriate text representation and image path.
+     * Returns an ObjectGraphic with the appropriate text representation and image path.
+     * Objects of the same kind may share one ObjectGraphic, see EntityGraphic.
      *
-     * @return the appropriate new ObjectGraphic.
+     * @return the appropriate ObjectGraphic.
      */
     ObjectGraphic render();
 
@@ -0,0 +1,133 @@
+package game.core;
+
+import java.util.List;
+
+/**
+ * Pool-backed construction for the SpaceObjects that are spawned and removed during a game.
+ * <p>
+ * Holds one ObjectPool for each of Bullet, Asteroid, Enemy, HealthPowerUp and ShieldPowerUp.
+ * The Ship is not pooled, there is only ever one per game.
+ */
+public class SpaceObjectPool {
+    /**
+     * The per-type capacity used by the default constructor.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final ObjectPool<Bullet> bullets;
+    private final ObjectPool<Asteroid> asteroids;
+    private final ObjectPool<Enemy> enemies;
+    private final ObjectPool<HealthPowerUp> healthPowerUps;
+    private final ObjectPool<ShieldPowerUp> shieldPowerUps;
+
+    /**
+     * Creates pools that each retain up to the given number of released objects.
+     * A capacity of 0 disables recycling but keeps the statistics.
+     *
+     * @param capacity the per-type capacity.
+     * @requires capacity >= 0
+     */
+    public SpaceObjectPool(int capacity) {
+        bullets = new ObjectPool<>("Bullet", capacity, () -> new Bullet(0, 0));
+        asteroids = new ObjectPool<>("Asteroid", capacity, () -> new Asteroid(0, 0));
+        enemies = new ObjectPool<>("Enemy", capacity, () -> new Enemy(0, 0));
+        healthPowerUps = new ObjectPool<>("HealthPowerUp", capacity,
+                () -> new HealthPowerUp(0, 0));
+        shieldPowerUps = new ObjectPool<>("ShieldPowerUp", capacity,
+                () -> new ShieldPowerUp(0, 0));
+    }
+
+    /**
+     * Creates pools with the default capacity.
+     */
+    public SpaceObjectPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a Bullet at the given coordinates.
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return a pooled Bullet.
+     */
+    public Bullet bullet(int x, int y) {
+        return bullets.obtain(x, y);
+    }
+
+    /**
+     * Returns an Asteroid at the given coordinates.
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return a pooled Asteroid.
+     */
+    public Asteroid asteroid(int x, int y) {
+        return asteroids.obtain(x, y);
+    }
+
+    /**
+     * Returns an Enemy at the given coordinates.
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return a pooled Enemy.
+     */
+    public Enemy enemy(int x, int y) {
+        return enemies.obtain(x, y);
+    }
+
+    /**
+     * Returns a HealthPowerUp at the given coordinates.
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return a pooled HealthPowerUp.
+     */
+    public HealthPowerUp healthPowerUp(int x, int y) {
+        return healthPowerUps.obtain(x, y);
+    }
+
+    /**
+     * Returns a ShieldPowerUp at the given coordinates.
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return a pooled ShieldPowerUp.
+     */
+    public ShieldPowerUp shieldPowerUp(int x, int y) {
+        return shieldPowerUps.obtain(x, y);
+    }
+
+    /**
+     * Returns a removed SpaceObject to its pool.
+     * Objects that were not obtained from this pool, including subclasses of the pooled types,
+     * are ignored.
+     *
+     * @param object the object that has left the game.
+     * @return true if the object was recycled, false otherwise.
+     * @requires object != null
+     */
+    public boolean release(SpaceObject object) {
+        Class<?> type = object.getClass();
+        if (type == Bullet.class) {
+            return bullets.release((Bullet) object);
+        } else if (type == Asteroid.class) {
+            return asteroids.release((Asteroid) object);
+        } else if (type == Enemy.class) {
+            return enemies.release((Enemy) object);
+        } else if (type == HealthPowerUp.class) {
+            return healthPowerUps.release((HealthPowerUp) object);
+        } else if (type == ShieldPowerUp.class) {
+            return shieldPowerUps.release((ShieldPowerUp) object);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of every pool.
+     *
+     * @return the statistics of the Bullet, Asteroid, Enemy, HealthPowerUp and ShieldPowerUp
+     *         pools, in that order.
+     */
+    public List<PoolStatistics> getStatistics() {
+        return List.of(bullets.getStatistics(), asteroids.getStatistics(),
+                enemies.getStatistics(), healthPowerUps.getStatistics(),
+                shieldPowerUps.getStatistics());
+    }
+}
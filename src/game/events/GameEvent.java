@@ -0,0 +1,103 @@
+package game.events;
+
+/**
+ * A single event in a GameEventBus.
+ * <p>
+ * GameEvents are preallocated slots of the bus's ring buffer and are reused once every
+ * subscriber has consumed them, so a handler must copy any field it needs after it returns.
+ */
+public class GameEvent {
+    private long sequence = -1;
+    private GameEventType type;
+    private byte kind;
+    private int x;
+    private int y;
+    private int value;
+    private int extra;
+
+    /**
+     * Creates an empty event slot.
+     */
+    GameEvent() {  }
+
+    /**
+     * Fills the slot with a new event.
+     */
+    void set(long sequence, GameEventType type, byte kind, int x, int y, int value, int extra) {
+        this.sequence = sequence;
+        this.type = type;
+        this.kind = kind;
+        this.x = x;
+        this.y = y;
+        this.value = value;
+        this.extra = extra;
+    }
+
+    /**
+     * Returns the position of this event in the order events were published, starting at 0.
+     *
+     * @return the event's sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the type of this event.
+     *
+     * @return the event type.
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the kind of the object involved, as a game.EntityStore kind constant.
+     *
+     * @return the object kind.
+     */
+    public byte getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the x coordinate where the event happened.
+     *
+     * @return the x coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y coordinate where the event happened.
+     *
+     * @return the y coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the event's value, e.g. the damage of a COLLISION or the level of a LEVEL_UP.
+     *
+     * @return the value.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the event's extra value, e.g. the spawn rate of a LEVEL_UP.
+     *
+     * @return the extra value.
+     */
+    public int getExtra() {
+        return extra;
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + x + ", " + y + ")";
+    }
+}
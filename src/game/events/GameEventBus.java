@@ -0,0 +1,180 @@
+package game.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A preallocated multi-producer ring buffer of GameEvents.
+ * <p>
+ * Publishers claim the next sequence and fill its slot in place, so publishing never
+ * allocates. Events may be published from several threads, e.g. the UI's step thread and its
+ * key thread. Each subscriber has its own cursor and drains the events published since its
+ * last drain, either on its own thread or on the game thread at the end of a frame.<br>
+ * A slot is only reused once every subscriber has drained it. Publishing never waits: if the
+ * buffer is full, the event is dropped and counted in getDropped(), and publish returns false
+ * so the publisher can handle the side effect itself. Subscribers must be added before events
+ * are published.
+ */
+public class GameEventBus {
+    private final GameEvent[] slots;
+    private final AtomicLongArray published; // The sequence last written to each slot
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1); // Last sequence claimed
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile Subscription[] subscriptions = new Subscription[0];
+    private volatile long gate = Long.MAX_VALUE; // Cached lowest sequence a subscriber needs
+
+    /**
+     * Creates a bus holding up to capacity events that have not been drained.
+     *
+     * @param capacity the number of slots, rounded up to a power of two.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public GameEventBus(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        slots = new GameEvent[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new GameEvent();
+        }
+        published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Returns the number of slots in the ring buffer.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Adds a subscriber that receives every event published from now on.
+     *
+     * @return the new subscription.
+     */
+    public synchronized Subscription subscribe() {
+        Subscription subscription = new Subscription(claimed.get());
+        Subscription[] current = subscriptions;
+        Subscription[] next = new Subscription[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = subscription;
+        subscriptions = next;
+        gate = Long.MIN_VALUE; // Recompute on the next publish
+        return subscription;
+    }
+
+    /**
+     * Publishes an event, or drops it if a subscriber has not drained the events published
+     * getCapacity() events ago. May be called from any thread.
+     *
+     * @param type the event type.
+     * @param kind the kind of object involved, as a game.EntityStore kind constant.
+     * @param x the x coordinate of the event.
+     * @param y the y coordinate of the event.
+     * @param value the event's value, see GameEventType.
+     * @param extra the event's extra value, see GameEventType.
+     * @return true if the event was published, false if it was dropped.
+     * @requires type != null
+     */
+    public boolean publish(GameEventType type, byte kind, int x, int y, int value, int extra) {
+        long sequence;
+        do {
+            sequence = claimed.get() + 1;
+            long wrapPoint = sequence - slots.length;
+            if (wrapPoint >= gate) {
+                long lowest = lowestUnconsumed();
+                gate = lowest;
+                if (wrapPoint >= lowest) {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+            }
+        } while (!claimed.compareAndSet(sequence - 1, sequence));
+        int index = (int) sequence & mask;
+        slots[index].set(sequence, type, kind, x, y, value, extra);
+        published.lazySet(index, sequence); // Releases the slot's fields to subscribers
+        return true;
+    }
+
+    /**
+     * Returns whether the event with the given sequence has been written to its slot.
+     */
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == sequence;
+    }
+
+    /**
+     * Returns the lowest sequence that some subscriber has not drained yet.
+     */
+    private long lowestUnconsumed() {
+        long lowest = Long.MAX_VALUE;
+        for (Subscription subscription : subscriptions) {
+            lowest = Math.min(lowest, subscription.consumed.get() + 1);
+        }
+        return lowest;
+    }
+
+    /**
+     * A subscriber's position in the bus.
+     */
+    public class Subscription {
+        private final AtomicLong consumed; // Last sequence drained
+
+        private Subscription(long consumed) {
+            this.consumed = new AtomicLong(consumed);
+        }
+
+        /**
+         * Passes every event published since the last drain to the handler, in order.
+         * Must only be called from one thread at a time.
+         *
+         * @param handler the handler for each event.
+         * @return the number of events drained.
+         * @requires handler != null
+         */
+        public int drain(GameEventHandler handler) {
+            long from = consumed.get() + 1;
+            long sequence = from;
+            while (isPublished(sequence)) {
+                handler.onEvent(slots[(int) sequence & mask]);
+                sequence++;
+            }
+            consumed.lazySet(sequence - 1);
+            return (int) (sequence - from);
+        }
+
+        /**
+         * Returns the number of events published but not yet drained by this subscriber.
+         *
+         * @return the number of pending events.
+         */
+        public int pending() {
+            long from = consumed.get() + 1;
+            long sequence = from;
+            while (isPublished(sequence)) {
+                sequence++;
+            }
+            return (int) (sequence - from);
+        }
+    }
+}
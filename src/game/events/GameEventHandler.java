@@ -0,0 +1,14 @@
+package game.events;
+
+/**
+ * Handles the events drained from a GameEventBus subscription.
+ */
+@FunctionalInterface
+public interface GameEventHandler {
+    /**
+     * Handles one event. The event must not be retained after this method returns.
+     *
+     * @param event the event.
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,47 @@
+package game.events;
+
+import game.EntityStore;
+import game.core.EntityGraphic;
+import game.logging.LogMessage;
+import game.utility.Logger;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Logs collision, power-up and level-up events with the same messages a verbose GameModel
+ * logs inline.
+ */
+public class GameEventLog implements GameEventHandler {
+    private final Logger logger;
+    private final BooleanSupplier verbose;
+
+    /**
+     * Creates a handler that logs while verbose is true.
+     *
+     * @param logger the logger to write messages to, such as UI::log.
+     * @param verbose whether messages should currently be logged, such as model::isVerbose.
+     * @requires logger != null && verbose != null
+     */
+    public GameEventLog(Logger logger, BooleanSupplier verbose) {
+        this.logger = logger;
+        this.verbose = verbose;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (!verbose.getAsBoolean()) {
+            return;
+        }
+        switch (event.getType()) {
+            case COLLISION -> logger.log((event.getKind() == EntityStore.ENEMY
+                    ? LogMessage.ENEMY_HIT : LogMessage.ASTEROID_HIT).format(event.getValue()));
+            case POWER_UP_COLLECTED -> logger.log(LogMessage.POWER_UP_COLLECTED.format(
+                    event.getKind() == EntityStore.SHIELD_POWER_UP
+                    ? EntityGraphic.SHIELD_POWER_UP.getGraphic()
+                    : EntityGraphic.HEALTH_POWER_UP.getGraphic()));
+            case LEVEL_UP -> logger.log(LogMessage.LEVEL_UP.format(event.getValue(),
+                    event.getExtra()));
+            default -> { }
+        }
+    }
+}
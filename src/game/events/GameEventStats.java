@@ -0,0 +1,30 @@
+package game.events;
+
+import game.achievements.PlayerStatsTracker;
+
+/**
+ * Records SHOT_HIT events in a PlayerStatsTracker.
+ * <p>
+ * SHOT_FIRED events are not recorded, shots fired are recorded by the input handling that
+ * fires them.
+ */
+public class GameEventStats implements GameEventHandler {
+    private final PlayerStatsTracker statsTracker;
+
+    /**
+     * Creates a handler recording hits in the given tracker.
+     *
+     * @param statsTracker the tracker to record hits in.
+     * @requires statsTracker != null
+     */
+    public GameEventStats(PlayerStatsTracker statsTracker) {
+        this.statsTracker = statsTracker;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event.getType() == GameEventType.SHOT_HIT) {
+            statsTracker.recordShotHit();
+        }
+    }
+}
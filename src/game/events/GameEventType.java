@@ -0,0 +1,34 @@
+package game.events;
+
+/**
+ * The kinds of GameEvent published by a GameModel.
+ * <p>
+ * The meaning of an event's value and extra fields depends on its type, as described below.
+ * Events that carry an object kind use the kind constants of game.EntityStore.
+ */
+public enum GameEventType {
+    /**
+     * The ship was hit by an Asteroid or Enemy. The value is the damage taken.
+     */
+    COLLISION,
+    /**
+     * The ship collected a PowerUp.
+     */
+    POWER_UP_COLLECTED,
+    /**
+     * An Asteroid, Enemy or PowerUp was spawned at the event's position.
+     */
+    SPAWN,
+    /**
+     * The game levelled up. The value is the new level, the extra is the new spawn rate.
+     */
+    LEVEL_UP,
+    /**
+     * A Bullet was fired from the event's position.
+     */
+    SHOT_FIRED,
+    /**
+     * A Bullet hit an Enemy at the event's position.
+     */
+    SHOT_HIT
+}
@@ -0,0 +1,333 @@
+package game.logging;
+
+import game.utility.Logger;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded queue of log messages that are formatted and written off the calling thread.
+ * <p>
+ * log() stores a LogMessage and its primitive arguments in a preallocated record, so logging
+ * on the tick or input thread neither builds a String nor allocates. The records are
+ * formatted and passed to the sink by drain(), which a background thread started by start()
+ * calls every FLUSH_INTERVAL_MILLIS milliseconds.<br>
+ * Messages are dropped rather than blocking the caller when the queue is full, and the sink
+ * is sent at most maxPerSecond messages per second. The number of dropped messages is logged
+ * once the current second is over.
+ */
+public class AsyncLog implements AutoCloseable {
+    /**
+     * The most arguments a queued message can have.
+     */
+    public static final int MAX_ARGUMENTS = 3;
+    /**
+     * The time the background thread waits between drains.
+     */
+    public static final long FLUSH_INTERVAL_MILLIS = 20;
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final Logger sink;
+    private final int maxPerSecond;
+    private final LongSupplier clock;
+    private final Record[] records; // Guarded by records
+    private int head; // Index of the oldest queued record
+    private int size; // Number of queued records
+    private long overflowed; // Messages dropped because the queue was full
+
+    // Only touched by the draining thread
+    private final Record current = new Record();
+    private final StringBuilder text = new StringBuilder();
+    private long windowStart;
+    private int windowCount;
+    private long suppressed;
+    private long dropped;
+
+    private Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Creates a log that queues up to capacity messages for the sink.
+     *
+     * @param sink the logger messages are written to, such as UI::log.
+     * @param capacity the most messages queued at once.
+     * @param maxPerSecond the most messages written to the sink per second.
+     * @throws IllegalArgumentException if capacity or maxPerSecond is not positive.
+     * @requires sink != null
+     */
+    public AsyncLog(Logger sink, int capacity, int maxPerSecond) {
+        this(sink, capacity, maxPerSecond, System::nanoTime);
+    }
+
+    AsyncLog(Logger sink, int capacity, int maxPerSecond, LongSupplier clock) {
+        if (capacity < 1 || maxPerSecond < 1) {
+            throw new IllegalArgumentException("Capacity and rate must be positive");
+        }
+        this.sink = sink;
+        this.maxPerSecond = maxPerSecond;
+        this.clock = clock;
+        records = new Record[capacity];
+        for (int i = 0; i < capacity; i++) {
+            records[i] = new Record();
+        }
+        windowStart = clock.getAsLong();
+    }
+
+    /**
+     * Queues a message without arguments.
+     *
+     * @param message the message.
+     * @throws IllegalArgumentException if the message takes arguments.
+     * @requires message != null
+     */
+    public void log(LogMessage message) {
+        check(message, LogMessage.Argument.LONG, 0);
+        synchronized (records) {
+            claim(message);
+        }
+    }
+
+    /**
+     * Queues a message with one %d argument.
+     *
+     * @param message the message.
+     * @param first the argument.
+     * @throws IllegalArgumentException if the message does not take one %d argument.
+     * @requires message != null
+     */
+    public void log(LogMessage message, long first) {
+        check(message, LogMessage.Argument.LONG, 1);
+        synchronized (records) {
+            Record record = claim(message);
+            if (record != null) {
+                record.values[0] = first;
+            }
+        }
+    }
+
+    /**
+     * Queues a message with two %d arguments.
+     *
+     * @param message the message.
+     * @param first the first argument.
+     * @param second the second argument.
+     * @throws IllegalArgumentException if the message does not take two %d arguments.
+     * @requires message != null
+     */
+    public void log(LogMessage message, long first, long second) {
+        check(message, LogMessage.Argument.LONG, 2);
+        synchronized (records) {
+            Record record = claim(message);
+            if (record != null) {
+                record.values[0] = first;
+                record.values[1] = second;
+            }
+        }
+    }
+
+    /**
+     * Queues a message with one %f argument.
+     *
+     * @param message the message.
+     * @param first the argument.
+     * @throws IllegalArgumentException if the message does not take one %f argument.
+     * @requires message != null
+     */
+    public void log(LogMessage message, double first) {
+        check(message, LogMessage.Argument.DOUBLE, 1);
+        synchronized (records) {
+            Record record = claim(message);
+            if (record != null) {
+                record.values[0] = Double.doubleToRawLongBits(first);
+            }
+        }
+    }
+
+    /**
+     * Queues a message with one %s argument. The argument is only turned into a String when
+     * the message is written, so it should not be changed after it is logged.
+     *
+     * @param message the message.
+     * @param first the argument.
+     * @throws IllegalArgumentException if the message does not take one %s argument.
+     * @requires message != null
+     */
+    public void log(LogMessage message, Object first) {
+        check(message, LogMessage.Argument.OBJECT, 1);
+        synchronized (records) {
+            Record record = claim(message);
+            if (record != null) {
+                record.objects[0] = first;
+            }
+        }
+    }
+
+    private static void check(LogMessage message, LogMessage.Argument argument, int count) {
+        if (!message.takes(argument, count)) {
+            throw new IllegalArgumentException(message + " does not take " + count + " "
+                    + argument + " arguments");
+        }
+    }
+
+    /**
+     * Returns the next free record holding the message, or null if the queue is full.
+     */
+    private Record claim(LogMessage message) {
+        if (size == records.length) {
+            overflowed++;
+            return null;
+        }
+        Record record = records[(head + size) % records.length];
+        size++;
+        record.message = message;
+        return record;
+    }
+
+    /**
+     * Returns the number of messages waiting to be written.
+     *
+     * @return the number of queued messages.
+     */
+    public int pending() {
+        synchronized (records) {
+            return size;
+        }
+    }
+
+    /**
+     * Returns the number of messages dropped so far, because the queue was full or the rate
+     * limit was reached. Messages dropped from a full queue are counted when next drained.
+     *
+     * @return the number of dropped messages.
+     */
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Formats the queued messages and writes them to the sink, in the order they were logged,
+     * on the calling thread.
+     *
+     * @return the number of messages written, not counting dropped messages.
+     */
+    public synchronized int drain() {
+        int written = 0;
+        while (true) {
+            synchronized (records) {
+                suppressed += overflowed;
+                dropped += overflowed;
+                overflowed = 0;
+                if (size == 0) {
+                    break;
+                }
+                current.copyFrom(records[head]);
+                records[head].objects[0] = null;
+                head = (head + 1) % records.length;
+                size--;
+            }
+            rollWindow();
+            if (windowCount == maxPerSecond) {
+                suppressed++;
+                dropped++;
+            } else {
+                windowCount++;
+                written++;
+                sink.log(format(current));
+            }
+        }
+        rollWindow();
+        return written;
+    }
+
+    /**
+     * Starts a new rate limit window once a second has passed, reporting any messages
+     * dropped during the last one.
+     */
+    private void rollWindow() {
+        long now = clock.getAsLong();
+        if (now - windowStart < WINDOW_NANOS) {
+            return;
+        }
+        reportSuppressed();
+        windowStart = now;
+        windowCount = 0;
+    }
+
+    private void reportSuppressed() {
+        if (suppressed > 0) {
+            sink.log(LogMessage.DROPPED.format(suppressed));
+            suppressed = 0;
+        }
+    }
+
+    private String format(Record record) {
+        text.setLength(0);
+        record.message.formatTo(text, record.values, record.objects);
+        record.objects[0] = null;
+        return text.toString();
+    }
+
+    /**
+     * Starts a daemon thread that drains the log every FLUSH_INTERVAL_MILLIS milliseconds.
+     *
+     * @throws IllegalStateException if the log was already started or closed.
+     */
+    public synchronized void start() {
+        if (thread != null || closed) {
+            throw new IllegalStateException("The log was already started");
+        }
+        thread = new Thread(this::run, "async-log");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        while (!closed) {
+            drain();
+            try {
+                Thread.sleep(FLUSH_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread, if started, then writes the queued messages and reports
+     * any messages dropped since the last report.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread running;
+        synchronized (this) {
+            running = thread;
+        }
+        if (running != null) {
+            running.interrupt();
+            try {
+                running.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            drain();
+            reportSuppressed();
+        }
+    }
+
+    /**
+     * A queued message and its arguments.
+     */
+    private static class Record {
+        private LogMessage message;
+        private final long[] values = new long[MAX_ARGUMENTS];
+        private final Object[] objects = new Object[MAX_ARGUMENTS];
+
+        private void copyFrom(Record other) {
+            message = other.message;
+            System.arraycopy(other.values, 0, values, 0, MAX_ARGUMENTS);
+            objects[0] = other.objects[0];
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package game.logging;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * The messages logged by the game in verbose mode, as format templates.
+ * <p>
+ * Each template is a java.util.Formatter pattern whose arguments are %d (a long), %.2f (a
+ * double) or %s (any object), so a message can be queued as its template and primitive
+ * arguments and only turned into a String when it is written.<br>
+ * The templates are parsed once, and format() appends the literal text and each argument to
+ * a StringBuilder instead of going through String.format(), so formatting a message boxes
+ * nothing and allocates little more than the resulting String. The result is the same as
+ * String.format() would give in the default locale.
+ */
+public enum LogMessage {
+    ASTEROID_HIT("Hit by asteroid! Health reduced by %d."),
+    ENEMY_HIT("Hit by enemy! Health reduced by %d."),
+    POWER_UP_COLLECTED("Power-up collected: %s"),
+    LEVEL_UP("Level Up! Welcome to Level %d. Spawn rate increased to %d%%."),
+    SHIP_MOVED("Ship moved to (%d, %d)"),
+    SURVIVOR_PROGRESS("Survivor progress: %.2f"),
+    ENEMY_EXTERMINATOR_PROGRESS("Enemy Exterminator progress: %.2f"),
+    SHARP_SHOOTER_PROGRESS("Sharp Shooter progress: %.2f"),
+    DROPPED("%d log messages dropped.");
+
+    /**
+     * The type of a template argument.
+     */
+    public enum Argument {
+        LONG, DOUBLE, OBJECT
+    }
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1000, 10_000, 100_000,
+        1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+    private static volatile Symbols symbols = new Symbols(null);
+
+    private final Argument[] arguments;
+    private final int[] precisions; // Digits after the point of each DOUBLE argument
+    private final String[] literals; // The text before each argument, and after the last
+    private final int length; // The length of the literal text
+
+    LogMessage(String pattern) {
+        int count = 0;
+        Argument[] found = new Argument[pattern.length()];
+        int[] foundPrecisions = new int[pattern.length()];
+        String[] foundLiterals = new String[pattern.length() + 1];
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) != '%') {
+                literal.append(pattern.charAt(i));
+                continue;
+            }
+            int end = i + 1;
+            while (!Character.isLetter(pattern.charAt(end)) && pattern.charAt(end) != '%') {
+                end++;
+            }
+            String flags = pattern.substring(i + 1, end);
+            switch (pattern.charAt(end)) {
+                case 'd' -> found[count] = Argument.LONG;
+                case 'f' -> {
+                    found[count] = Argument.DOUBLE;
+                    foundPrecisions[count] = flags.startsWith(".")
+                            ? Integer.parseInt(flags.substring(1)) : 6;
+                }
+                case 's' -> found[count] = Argument.OBJECT;
+                case '%' -> literal.append('%');
+                default -> throw new IllegalArgumentException("Unsupported conversion in "
+                        + pattern);
+            }
+            boolean plain = flags.isEmpty() || found[count] == Argument.DOUBLE
+                    && flags.matches("\\.[0-9]") && pattern.charAt(end) != '%';
+            if (!plain) {
+                throw new IllegalArgumentException("Unsupported flags in " + pattern);
+            }
+            if (pattern.charAt(end) != '%') {
+                foundLiterals[count++] = literal.toString();
+                literal.setLength(0);
+            }
+            i = end;
+        }
+        foundLiterals[count] = literal.toString();
+        arguments = new Argument[count];
+        precisions = new int[count];
+        literals = new String[count + 1];
+        System.arraycopy(found, 0, arguments, 0, count);
+        System.arraycopy(foundPrecisions, 0, precisions, 0, count);
+        System.arraycopy(foundLiterals, 0, literals, 0, count + 1);
+        int total = 0;
+        for (String each : literals) {
+            total += each.length();
+        }
+        length = total;
+    }
+
+    /**
+     * Returns the number of arguments the template takes.
+     *
+     * @return the number of arguments.
+     */
+    public int getArity() {
+        return arguments.length;
+    }
+
+    /**
+     * Returns the type of the index'th argument.
+     *
+     * @param index the index of the argument.
+     * @return the type of the argument.
+     * @requires 0 <= index < getArity()
+     */
+    public Argument getArgument(int index) {
+        return arguments[index];
+    }
+
+    /**
+     * Checks whether the template takes exactly count arguments, all of the given type.
+     *
+     * @param argument the type of the arguments.
+     * @param count the number of arguments.
+     * @return true if the arguments match, false otherwise.
+     */
+    public boolean takes(Argument argument, int count) {
+        if (arguments.length != count) {
+            return false;
+        }
+        for (Argument each : arguments) {
+            if (each != argument) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Formats the message with one %d argument.
+     *
+     * @param first the argument.
+     * @return the formatted message.
+     * @throws IllegalArgumentException if the template does not take one %d argument.
+     */
+    public String format(long first) {
+        check(Argument.LONG, 1);
+        return format(first, 0, null);
+    }
+
+    /**
+     * Formats the message with two %d arguments.
+     *
+     * @param first the first argument.
+     * @param second the second argument.
+     * @return the formatted message.
+     * @throws IllegalArgumentException if the template does not take two %d arguments.
+     */
+    public String format(long first, long second) {
+        check(Argument.LONG, 2);
+        return format(first, second, null);
+    }
+
+    /**
+     * Formats the message with one %f argument.
+     *
+     * @param first the argument.
+     * @return the formatted message.
+     * @throws IllegalArgumentException if the template does not take one %f argument.
+     */
+    public String format(double first) {
+        check(Argument.DOUBLE, 1);
+        return format(Double.doubleToRawLongBits(first), 0, null);
+    }
+
+    /**
+     * Formats the message with one %s argument.
+     *
+     * @param first the argument.
+     * @return the formatted message.
+     * @throws IllegalArgumentException if the template does not take one %s argument.
+     */
+    public String format(Object first) {
+        check(Argument.OBJECT, 1);
+        return format(0, 0, first);
+    }
+
+    private void check(Argument argument, int count) {
+        if (!takes(argument, count)) {
+            throw new IllegalArgumentException(this + " does not take " + count + " "
+                    + argument + " arguments");
+        }
+    }
+
+    private String format(long first, long second, Object object) {
+        StringBuilder out = new StringBuilder(length + 16);
+        out.append(literals[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            appendArgument(out, i, i == 0 ? first : second, object);
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Appends the message to out. A DOUBLE argument is passed as the raw bits of the double
+     * in values, a LONG argument as its value in values, and an OBJECT argument in objects.
+     *
+     * @param out the builder to append to.
+     * @param values the primitive arguments, by argument index.
+     * @param objects the object arguments, by argument index.
+     * @requires values.length >= getArity() && objects.length >= getArity()
+     */
+    void formatTo(StringBuilder out, long[] values, Object[] objects) {
+        out.append(literals[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            appendArgument(out, i, values[i], objects[i]);
+            out.append(literals[i + 1]);
+        }
+    }
+
+    private void appendArgument(StringBuilder out, int index, long value, Object object) {
+        switch (arguments[index]) {
+            case LONG -> appendLong(out, value);
+            case DOUBLE -> appendFixed(out, Double.longBitsToDouble(value), precisions[index]);
+            case OBJECT -> out.append(object);
+        }
+    }
+
+    private static void appendLong(StringBuilder out, long value) {
+        if (!symbols().asciiDigits) {
+            out.append(String.format("%d", value));
+            return;
+        }
+        out.append(value);
+    }
+
+    /**
+     * Appends value rounded half up to the given number of digits after the point, as
+     * String.format() does: from the shortest decimal that represents the double.
+     */
+    private static void appendFixed(StringBuilder out, double value, int precision) {
+        Symbols local = symbols();
+        String digits = Double.toString(Math.abs(value));
+        if (!local.asciiDigits || precision >= POWERS_OF_TEN.length || digits.indexOf('E') >= 0
+                || Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append(String.format("%." + precision + "f", value));
+            return;
+        }
+        // Without an exponent, the value is below 10^7 and has at least one fraction digit
+        int point = digits.indexOf('.');
+        long scaled = Long.parseLong(digits, 0, point, 10);
+        for (int i = 1; i <= precision; i++) {
+            int at = point + i;
+            scaled = scaled * 10 + (at < digits.length() ? digits.charAt(at) - '0' : 0);
+        }
+        int next = point + precision + 1;
+        if (next < digits.length() && digits.charAt(next) >= '5') {
+            scaled++;
+        }
+        if (Double.doubleToRawLongBits(value) < 0) {
+            out.append('-');
+        }
+        long unit = POWERS_OF_TEN[precision];
+        out.append(scaled / unit);
+        if (precision > 0) {
+            out.append(local.decimalSeparator);
+            long fraction = scaled % unit;
+            for (long digit = unit / 10; digit > fraction && digit > 1; digit /= 10) {
+                out.append('0');
+            }
+            out.append(fraction);
+        }
+    }
+
+    /**
+     * Returns the symbols of the default format locale, looking them up again only when the
+     * default locale has changed.
+     */
+    private static Symbols symbols() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        Symbols current = symbols;
+        if (current.locale != locale) {
+            current = new Symbols(locale);
+            symbols = current;
+        }
+        return current;
+    }
+
+    /**
+     * The number symbols of a locale. Numbers are only appended without a Formatter when the
+     * locale's digits are ASCII.
+     */
+    private static final class Symbols {
+        private final Locale locale;
+        private final char decimalSeparator;
+        private final boolean asciiDigits;
+
+        private Symbols(Locale locale) {
+            this.locale = locale;
+            if (locale == null) {
+                decimalSeparator = '.';
+                asciiDigits = false;
+            } else {
+                DecimalFormatSymbols found = DecimalFormatSymbols.getInstance(locale);
+                decimalSeparator = found.getDecimalSeparator();
+                asciiDigits = found.getZeroDigit() == '0';
+            }
+        }
+    }
+}
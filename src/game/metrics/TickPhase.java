@@ -0,0 +1,25 @@
+package game.metrics;
+
+/**
+ * The phases of a game tick timed by a TickProfiler.
+ */
+public enum TickPhase {
+    /** model.updateGame(tick), moving every object. */
+    UPDATE_GAME,
+    /** model.checkCollisions(). */
+    CHECK_COLLISIONS,
+    /** model.spawnObjects(). */
+    SPAWN_OBJECTS,
+    /** model.levelUp(). */
+    LEVEL_UP,
+    /** model.advance(tick), which replaces the four phases above when ticks are fused. */
+    ADVANCE,
+    /** Handling the events published during the tick. */
+    DRAIN_EVENTS,
+    /** refreshAchievements(tick). */
+    REFRESH_ACHIEVEMENTS,
+    /** renderGame(). */
+    RENDER_GAME,
+    /** The whole tick, from beginTick() to endTick(). */
+    TOTAL
+}
@@ -0,0 +1,192 @@
+package game.metrics;
+
+import game.utility.Logger;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Times each phase of a game tick with a nanosecond clock, and keeps the timings of every
+ * phase in a Histogram.
+ * <p>
+ * The tick thread calls beginTick(), then lap(phase) as each phase ends, then endTick().
+ * Laps are held in a fixed array until endTick() records them, under one uncontended lock, so
+ * timing a tick never allocates. Ticks whose total time exceeds the budget are counted as
+ * overruns.<br>
+ * Other threads can query a copy of any phase's histogram with snapshot(), or have report()
+ * sent to a Logger at a fixed interval. Only building a report allocates.
+ */
+public class TickProfiler {
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private final long budgetNanos;
+    private final LongSupplier clock;
+    private final Histogram[] histograms = new Histogram[PHASES.length]; // Guarded by this
+    private long overruns; // Guarded by this
+
+    // Only touched by the tick thread
+    private final long[] laps = new long[PHASES.length];
+    private final boolean[] lapped = new boolean[PHASES.length];
+    private long tickStart;
+    private long lapStart;
+
+    private Logger dumpSink; // Guarded by this
+    private long dumpIntervalNanos; // Guarded by this
+    private long lastDump; // Guarded by this
+
+    /**
+     * Creates a profiler with no recorded ticks.
+     *
+     * @param budgetNanos the longest a tick may take before it is counted as an overrun.
+     * @throws IllegalArgumentException if budgetNanos is not positive.
+     */
+    public TickProfiler(long budgetNanos) {
+        this(budgetNanos, System::nanoTime);
+    }
+
+    TickProfiler(long budgetNanos, LongSupplier clock) {
+        if (budgetNanos < 1) {
+            throw new IllegalArgumentException("The tick budget must be positive");
+        }
+        this.budgetNanos = budgetNanos;
+        this.clock = clock;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    /**
+     * Sends report() to the sink at most once per interval, from the tick that ends after the
+     * interval has passed.
+     *
+     * @param sink the logger to send reports to, such as UI::log, or null to stop reporting.
+     * @param intervalMillis the time between reports.
+     * @throws IllegalArgumentException if sink is not null and intervalMillis is not positive.
+     */
+    public synchronized void setDump(Logger sink, long intervalMillis) {
+        if (sink != null && intervalMillis < 1) {
+            throw new IllegalArgumentException("The dump interval must be positive");
+        }
+        dumpSink = sink;
+        dumpIntervalNanos = intervalMillis * 1_000_000L;
+        lastDump = clock.getAsLong();
+    }
+
+    /**
+     * Starts timing a tick.
+     */
+    public void beginTick() {
+        tickStart = clock.getAsLong();
+        lapStart = tickStart;
+    }
+
+    /**
+     * Ends the given phase, timing it from the end of the previous phase or the start of the
+     * tick.
+     *
+     * @param phase the phase that has just ended.
+     * @requires phase != null and phase != TickPhase.TOTAL
+     */
+    public void lap(TickPhase phase) {
+        long now = clock.getAsLong();
+        laps[phase.ordinal()] += now - lapStart;
+        lapped[phase.ordinal()] = true;
+        lapStart = now;
+    }
+
+    /**
+     * Ends the tick, recording the time of every phase lapped since beginTick() and of the
+     * whole tick.
+     */
+    public void endTick() {
+        long now = clock.getAsLong();
+        long total = now - tickStart;
+        laps[TickPhase.TOTAL.ordinal()] = total;
+        lapped[TickPhase.TOTAL.ordinal()] = true;
+        Logger sink = null;
+        synchronized (this) {
+            for (int i = 0; i < laps.length; i++) {
+                if (lapped[i]) {
+                    histograms[i].record(laps[i]);
+                    laps[i] = 0;
+                    lapped[i] = false;
+                }
+            }
+            if (total > budgetNanos) {
+                overruns++;
+            }
+            if (dumpSink != null && now - lastDump >= dumpIntervalNanos) {
+                lastDump = now;
+                sink = dumpSink;
+            }
+        }
+        if (sink != null) {
+            sink.log(report());
+        }
+    }
+
+    /**
+     * Returns a copy of the timings recorded for a phase, in nanoseconds.
+     *
+     * @param phase the phase.
+     * @return a new histogram holding the phase's timings.
+     * @requires phase != null
+     */
+    public synchronized Histogram snapshot(TickPhase phase) {
+        Histogram copy = new Histogram();
+        copy.merge(histograms[phase.ordinal()]);
+        return copy;
+    }
+
+    /**
+     * Returns the number of ticks recorded.
+     * @return the number of ticks.
+     */
+    public synchronized long getTicks() {
+        return histograms[TickPhase.TOTAL.ordinal()].getCount();
+    }
+
+    /**
+     * Returns the number of ticks that took longer than the budget.
+     * @return the number of overruns.
+     */
+    public synchronized long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * Returns the budget a tick may take before it is counted as an overrun.
+     * @return the budget in nanoseconds.
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Removes every recorded timing and overrun.
+     */
+    public synchronized void reset() {
+        for (Histogram histogram : histograms) {
+            histogram.reset();
+        }
+        overruns = 0;
+    }
+
+    /**
+     * Returns a summary of the timings of every phase that has been recorded, in nanoseconds,
+     * followed by the number of overruns.
+     * @return one line per phase, then the overruns.
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder("Tick timings (ns):");
+        for (TickPhase phase : PHASES) {
+            Histogram histogram = histograms[phase.ordinal()];
+            if (histogram.getCount() > 0) {
+                report.append('\n').append(phase).append(' ').append(histogram);
+            }
+        }
+        report.append("\nOverruns: ").append(overruns).append(" of ")
+                .append(histograms[TickPhase.TOTAL.ordinal()].getCount())
+                .append(" ticks over ").append(budgetNanos).append(" ns");
+        return report.toString();
+    }
+}
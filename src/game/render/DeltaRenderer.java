@@ -0,0 +1,18 @@
+package game.render;
+
+/**
+ * A UI that can draw a frame from the changes since the previous one.
+ * <p>
+ * A UI that also implements DeltaRenderer is sent a RenderDelta by GameController every
+ * tick that something changed, instead of the full list of objects through UI.render().
+ * The first delta spawns every object in the game.
+ */
+@FunctionalInterface
+public interface DeltaRenderer {
+    /**
+     * Draws the changes since the previous frame.
+     *
+     * @param delta the spawned, moved and removed entities, only valid during this call.
+     */
+    void renderDelta(RenderDelta delta);
+}
@@ -0,0 +1,91 @@
+package game.render;
+
+import game.core.ObjectWithPosition;
+import game.core.SpaceObject;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Works out the RenderDelta between consecutive frames, giving each object a stable id.
+ * <p>
+ * A frame is built by calling beginFrame(), track() for every object drawn and endFrame().
+ * Objects are matched to the previous frame by identity, and a pooled object that was
+ * recycled since the previous frame is treated as a new entity, so an id always refers to a
+ * single object's lifetime.<br>
+ * Models whose getSpaceObjects() returns new views on every call, such as CompactGameModel,
+ * produce deltas that remove and spawn every object each frame.
+ */
+public class DeltaTracker {
+    private final Map<SpaceObject, RenderedEntity> entities = new IdentityHashMap<>();
+    private final RenderDelta delta = new RenderDelta();
+    private long frame;
+    private int nextId;
+
+    /**
+     * Creates a tracker whose first frame spawns every object tracked.
+     */
+    public DeltaTracker() {  }
+
+    /**
+     * Starts a new frame, clearing the delta of the previous one.
+     */
+    public void beginFrame() {
+        frame++;
+        delta.clear();
+    }
+
+    /**
+     * Adds an object to the current frame. Objects tracked more than once per frame are only
+     * counted once.
+     *
+     * @param object the object drawn in this frame.
+     * @requires object != null
+     */
+    public void track(SpaceObject object) {
+        RenderedEntity entity = entities.get(object);
+        int generation = generationOf(object);
+        if (entity != null && entity.getGeneration() != generation) {
+            delta.remove(entity); // The object was recycled as a new entity
+            entity = null;
+        }
+        if (entity == null) {
+            entity = new RenderedEntity(nextId++, object, generation, frame);
+            entities.put(object, entity);
+            delta.spawn(entity);
+        } else if (entity.getSeenFrame() != frame && entity.see(frame)) {
+            delta.move(entity);
+        }
+    }
+
+    private static int generationOf(SpaceObject object) {
+        return object instanceof ObjectWithPosition pooled ? pooled.getGeneration() : 0;
+    }
+
+    /**
+     * Ends the frame, removing every entity that was not tracked in it.
+     *
+     * @return the changes since the previous frame, valid until the next beginFrame().
+     */
+    public RenderDelta endFrame() {
+        Iterator<RenderedEntity> iterator = entities.values().iterator();
+        while (iterator.hasNext()) {
+            RenderedEntity entity = iterator.next();
+            if (entity.getSeenFrame() != frame) {
+                delta.remove(entity);
+                iterator.remove();
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Returns the number of entities in the last frame.
+     *
+     * @return the number of tracked entities.
+     */
+    public int size() {
+        return entities.size();
+    }
+}
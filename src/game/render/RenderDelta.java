@@ -0,0 +1,79 @@
+package game.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The changes between two rendered frames: the entities spawned, moved and removed since the
+ * previous frame. Entities that did not change are not included.
+ * <p>
+ * A RenderDelta is reused by its DeltaTracker for every frame, so it should only be read
+ * during the renderDelta() call it is passed to.
+ */
+public class RenderDelta {
+    private final List<RenderedEntity> spawned = new ArrayList<>();
+    private final List<RenderedEntity> moved = new ArrayList<>();
+    private final List<RenderedEntity> removed = new ArrayList<>();
+    private final List<RenderedEntity> spawnedView = Collections.unmodifiableList(spawned);
+    private final List<RenderedEntity> movedView = Collections.unmodifiableList(moved);
+    private final List<RenderedEntity> removedView = Collections.unmodifiableList(removed);
+
+    RenderDelta() {  }
+
+    /**
+     * Returns the entities that appeared in this frame.
+     * @return an unmodifiable list of the spawned entities.
+     */
+    public List<RenderedEntity> getSpawned() {
+        return spawnedView;
+    }
+
+    /**
+     * Returns the entities whose position changed since the previous frame.
+     * @return an unmodifiable list of the moved entities.
+     */
+    public List<RenderedEntity> getMoved() {
+        return movedView;
+    }
+
+    /**
+     * Returns the entities that were in the previous frame but are gone from this one.
+     * Their position is the one they were last drawn at.
+     * @return an unmodifiable list of the removed entities.
+     */
+    public List<RenderedEntity> getRemoved() {
+        return removedView;
+    }
+
+    /**
+     * Checks whether nothing changed since the previous frame.
+     * @return true if no entity was spawned, moved or removed, false otherwise.
+     */
+    public boolean isEmpty() {
+        return spawned.isEmpty() && moved.isEmpty() && removed.isEmpty();
+    }
+
+    void clear() {
+        spawned.clear();
+        moved.clear();
+        removed.clear();
+    }
+
+    void spawn(RenderedEntity entity) {
+        spawned.add(entity);
+    }
+
+    void move(RenderedEntity entity) {
+        moved.add(entity);
+    }
+
+    void remove(RenderedEntity entity) {
+        removed.add(entity);
+    }
+
+    @Override
+    public String toString() {
+        return "spawned " + spawned + ", moved " + moved + ", removed " + removed;
+    }
+}
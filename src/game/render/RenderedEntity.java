@@ -0,0 +1,106 @@
+package game.render;
+
+import game.core.SpaceObject;
+
+/**
+ * An object drawn by a DeltaRenderer, identified by an id that stays the same for as long as
+ * the object is in the game.
+ * <p>
+ * Entities are owned and updated by a DeltaTracker, so they should only be read during the
+ * renderDelta() call they are passed to.
+ */
+public class RenderedEntity {
+    private final int id;
+    private final SpaceObject object;
+    private final int generation;
+    private int x;
+    private int y;
+    private int previousX;
+    private int previousY;
+    private long seenFrame;
+
+    RenderedEntity(int id, SpaceObject object, int generation, long frame) {
+        this.id = id;
+        this.object = object;
+        this.generation = generation;
+        this.x = object.getX();
+        this.y = object.getY();
+        this.previousX = x;
+        this.previousY = y;
+        this.seenFrame = frame;
+    }
+
+    /**
+     * Returns the entity's id, unique among all entities of a DeltaTracker.
+     * @return the id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the object drawn, e.g. to call render() on.
+     * @return the object.
+     */
+    public SpaceObject getObject() {
+        return object;
+    }
+
+    /**
+     * Returns the x coordinate the entity is drawn at in this frame.
+     * @return the x coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y coordinate the entity is drawn at in this frame.
+     * @return the y coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the x coordinate the entity was drawn at in the previous frame.
+     * @return the previous x coordinate, the current one if the entity was just spawned.
+     */
+    public int getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * Returns the y coordinate the entity was drawn at in the previous frame.
+     * @return the previous y coordinate, the current one if the entity was just spawned.
+     */
+    public int getPreviousY() {
+        return previousY;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    long getSeenFrame() {
+        return seenFrame;
+    }
+
+    /**
+     * Marks the entity as seen in the frame and records its position.
+     * @return true if the entity moved since the previous frame, false otherwise.
+     */
+    boolean see(long frame) {
+        seenFrame = frame;
+        previousX = x;
+        previousY = y;
+        x = object.getX();
+        y = object.getY();
+        return x != previousX || y != previousY;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + id + " " + object.getClass().getSimpleName() + "(" + x + ", " + y + ")";
+    }
+}
@@ -0,0 +1,247 @@
+package game.render;
+
+import game.ui.UI;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The stats shown by the UI, published once per frame and only when their text changes.
+ * <p>
+ * Each Stat remembers the last value it was set to and only formats a new value, into its
+ * own reusable char buffer, when the displayed text would change. publish() then sends the
+ * stats that changed since the last publish to the UI in one batch: as a single
+ * renderStats() call if the UI is a StatRenderer, and through UI.setStat() otherwise.
+ */
+public class StatBoard {
+    private static final int DECIMAL_SCALE = 100; // Decimal stats show two places
+    private static final double TIE_TOLERANCE = 1e-6;
+    private static final byte NONE = 0;
+    private static final byte WHOLE = 1;
+    private static final byte DECIMAL = 2;
+
+    private final List<Stat> changed = new ArrayList<>();
+    private final List<Stat> changedView = Collections.unmodifiableList(changed);
+    private final char decimalSeparator;
+    private final boolean asciiDigits;
+
+    /**
+     * Creates an empty board that formats decimals for the default locale, like
+     * String.format() does.
+     */
+    public StatBoard() {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(
+                Locale.getDefault(Locale.Category.FORMAT));
+        decimalSeparator = symbols.getDecimalSeparator();
+        asciiDigits = symbols.getZeroDigit() == '0';
+    }
+
+    /**
+     * Adds a stat whose value is shown followed by the suffix.
+     *
+     * @param label the stat's label.
+     * @param suffix the text shown after the value, e.g. " seconds".
+     * @return the new stat.
+     * @requires label != null && suffix != null
+     */
+    public Stat add(String label, String suffix) {
+        return new Stat(label, suffix);
+    }
+
+    /**
+     * Adds a stat whose text is just its value.
+     *
+     * @param label the stat's label.
+     * @return the new stat.
+     * @requires label != null
+     */
+    public Stat add(String label) {
+        return add(label, "");
+    }
+
+    /**
+     * Returns the stats whose text changed since the last publish, in the order they changed.
+     *
+     * @return an unmodifiable list of the changed stats.
+     */
+    public List<Stat> getChanged() {
+        return changedView;
+    }
+
+    /**
+     * Sends the stats that changed since the last publish to the UI, and clears them.
+     *
+     * @param ui the UI to update.
+     * @requires ui != null
+     */
+    public void publish(UI ui) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        if (ui instanceof StatRenderer renderer) {
+            renderer.renderStats(changedView);
+        } else {
+            for (Stat stat : changed) {
+                ui.setStat(stat.getLabel(), stat.toString());
+            }
+        }
+        for (Stat stat : changed) {
+            stat.pending = false;
+        }
+        changed.clear();
+    }
+
+    /**
+     * A labelled stat whose text is held in a reusable buffer. Whole numbers are shown like
+     * Long.toString(value) and decimals like String.format("%.2f", value).
+     */
+    public class Stat implements CharSequence {
+        private final String label;
+        private final char[] suffix;
+        private char[] text = new char[32];
+        private int length;
+        private byte kind = NONE; // The kind of value last holds
+        private long last; // Last value set, scaled by DECIMAL_SCALE for decimals
+        private boolean pending; // Whether the stat is in the changed list
+
+        private Stat(String label, String suffix) {
+            this.label = label;
+            this.suffix = suffix.toCharArray();
+        }
+
+        /**
+         * Returns the stat's label.
+         *
+         * @return the label.
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Sets a whole number value, formatting it only if it differs from the last value.
+         *
+         * @param value the new value.
+         */
+        public void set(long value) {
+            if (kind == WHOLE && value == last) {
+                return;
+            }
+            kind = WHOLE;
+            last = value;
+            length = 0;
+            appendLong(value);
+            finish();
+        }
+
+        /**
+         * Sets a decimal value, formatting it only if its text differs from the last one.
+         *
+         * @param value the new value.
+         */
+        public void set(double value) {
+            double scaled = value * DECIMAL_SCALE;
+            double fraction = scaled - Math.floor(scaled);
+            if (!asciiDigits || !(scaled >= 0 && scaled < Long.MAX_VALUE)
+                    || Math.abs(fraction - 0.5) < TIE_TOLERANCE) {
+                // Near a rounding tie, String.format() rounds the shortest decimal form
+                setText(String.format("%.2f", value));
+                return;
+            }
+            long rounded = Math.round(scaled);
+            if (kind == DECIMAL && rounded == last) {
+                return;
+            }
+            kind = DECIMAL;
+            last = rounded;
+            length = 0;
+            appendLong(rounded / DECIMAL_SCALE);
+            append(decimalSeparator);
+            append((char) ('0' + rounded % DECIMAL_SCALE / 10));
+            append((char) ('0' + rounded % 10));
+            finish();
+        }
+
+        private void setText(String value) {
+            kind = NONE;
+            if (length == value.length() + suffix.length && startsWith(value)) {
+                return;
+            }
+            length = 0;
+            for (int i = 0; i < value.length(); i++) {
+                append(value.charAt(i));
+            }
+            finish();
+        }
+
+        private boolean startsWith(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (text[i] != value.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void appendLong(long value) {
+            if (value < 0) {
+                append('-');
+            }
+            int start = length;
+            do {
+                append((char) ('0' + Math.abs(value % 10)));
+                value /= 10;
+            } while (value != 0);
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                char swap = text[i];
+                text[i] = text[j];
+                text[j] = swap;
+            }
+        }
+
+        private void append(char c) {
+            if (length == text.length) {
+                char[] grown = new char[text.length * 2];
+                System.arraycopy(text, 0, grown, 0, length);
+                text = grown;
+            }
+            text[length++] = c;
+        }
+
+        private void finish() {
+            for (char c : suffix) {
+                append(c);
+            }
+            if (!pending) {
+                pending = true;
+                changed.add(this);
+            }
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return text[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(text, 0, length);
+        }
+    }
+}
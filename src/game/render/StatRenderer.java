@@ -0,0 +1,20 @@
+package game.render;
+
+import java.util.List;
+
+/**
+ * A UI that can update several stats at once.
+ * <p>
+ * A UI that also implements StatRenderer is sent the stats that changed in a frame in a
+ * single call by StatBoard.publish(), instead of one UI.setStat() call per stat.
+ */
+@FunctionalInterface
+public interface StatRenderer {
+    /**
+     * Updates the stats whose text changed since the previous frame.
+     *
+     * @param changed the changed stats, with their labels and text. The text is held in a
+     *                reusable buffer, so it is only valid during this call.
+     */
+    void renderStats(List<StatBoard.Stat> changed);
+}
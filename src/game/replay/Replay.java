@@ -0,0 +1,221 @@
+package game.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * An immutable recording of a game session: the RNG seed, the board size and the tick-stamped
+ * player commands.
+ * <p>
+ * Commands are stamped with the number of ticks that had completed when they were issued, so a
+ * command stamped k is applied before the k-th tick of the replay (counting from 0). The tick
+ * value the UI passed for the first tick is kept so the replay uses the same tick numbers.
+ * <p>
+ * The binary form is a fixed header followed by one variable-length tick delta and one byte
+ * per command, so a typical session costs about two bytes per command.
+ */
+public class Replay {
+    private static final int MAGIC = 0x53475250; // "SGRP"
+    private static final int VERSION = 2;
+
+    private final int seed;
+    private final int width;
+    private final int height;
+    private final int firstTick;
+    private final int tickCount;
+    private final int[] commandTicks;
+    private final byte[] commands;
+
+    /**
+     * Creates a replay.
+     *
+     * @param seed the seed the model's Random was set to.
+     * @param width the board width of the recorded model.
+     * @param height the board height of the recorded model.
+     * @param firstTick the tick value of the first recorded tick.
+     * @param tickCount the number of ticks recorded.
+     * @param commandTicks the non-decreasing stamp of each command.
+     * @param commands each command key, one of 'W', 'A', 'S', 'D' or 'F'.
+     * @requires width > 0 && height > 0 && commandTicks.length == commands.length
+     */
+    public Replay(int seed, int width, int height, int firstTick, int tickCount,
+                  int[] commandTicks, byte[] commands) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("The board size must be positive");
+        }
+        if (commandTicks.length != commands.length) {
+            throw new IllegalArgumentException("Every command needs exactly one tick stamp");
+        }
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+        this.firstTick = firstTick;
+        this.tickCount = tickCount;
+        this.commandTicks = commandTicks.clone();
+        this.commands = commands.clone();
+    }
+
+    /**
+     * Returns the seed the model's Random was set to.
+     * @return the seed.
+     */
+    public int getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the board width of the recorded model.
+     * @return the board width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the board height of the recorded model.
+     * @return the board height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the tick value the UI passed for the first recorded tick.
+     * @return the first tick value.
+     */
+    public int getFirstTick() {
+        return firstTick;
+    }
+
+    /**
+     * Returns the number of ticks recorded.
+     * @return the number of ticks.
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the number of commands recorded.
+     * @return the number of commands.
+     */
+    public int getCommandCount() {
+        return commands.length;
+    }
+
+    /**
+     * Returns the stamp of a command.
+     * @param index the command index.
+     * @return the number of ticks completed before the command was issued.
+     */
+    public int getCommandTick(int index) {
+        return commandTicks[index];
+    }
+
+    /**
+     * Returns a command.
+     * @param index the command index.
+     * @return the command key as a string, e.g. "F".
+     */
+    public String getCommand(int index) {
+        return String.valueOf((char) commands[index]);
+    }
+
+    /**
+     * Writes the replay in its binary form.
+     *
+     * @param out the stream to write to, it is not closed.
+     * @throws IOException if the stream cannot be written to.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(seed);
+        writeVarInt(data, width);
+        writeVarInt(data, height);
+        data.writeInt(firstTick);
+        writeVarInt(data, tickCount);
+        writeVarInt(data, commands.length);
+        int previous = 0;
+        for (int i = 0; i < commands.length; i++) {
+            writeVarInt(data, commandTicks[i] - previous);
+            data.writeByte(commands[i]);
+            previous = commandTicks[i];
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by write().
+     *
+     * @param in the stream to read from, it is not closed.
+     * @return the replay.
+     * @throws IOException if the stream cannot be read or is not a replay.
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readByte() != VERSION) {
+            throw new IOException("Not a replay, or an unsupported replay version");
+        }
+        int seed = data.readInt();
+        int width = readVarInt(data);
+        int height = readVarInt(data);
+        int firstTick = data.readInt();
+        int tickCount = readVarInt(data);
+        int count = readVarInt(data);
+        int[] commandTicks = new int[count];
+        byte[] commands = new byte[count];
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readVarInt(data);
+            commandTicks[i] = previous;
+            commands[i] = data.readByte();
+        }
+        if (width <= 0 || height <= 0) {
+            throw new IOException("Replay has an invalid board size");
+        }
+        return new Replay(seed, width, height, firstTick, tickCount, commandTicks, commands);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Replay replay)) {
+            return false;
+        }
+        return seed == replay.seed && width == replay.width && height == replay.height
+                && firstTick == replay.firstTick
+                && tickCount == replay.tickCount
+                && Arrays.equals(commandTicks, replay.commandTicks)
+                && Arrays.equals(commands, replay.commands);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(commands) + Arrays.hashCode(commandTicks) + seed;
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
@@ -0,0 +1,91 @@
+package game.replay;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.simulation.HeadlessRunner;
+import game.simulation.InputSource;
+import game.simulation.SimulationResult;
+
+/**
+ * Plays a Replay back into a fresh GameModel at unthrottled speed.
+ * <p>
+ * Playback is exact as long as the model is seeded the same way as the recorded one, because
+ * GameModel.spawnObjects() makes a fixed sequence of Random calls every tick and the commands
+ * are applied between the same ticks as they were recorded.
+ */
+public class ReplayPlayer {
+    private final HeadlessRunner runner;
+    private final Replay replay;
+
+    /**
+     * Creates a player that replays into the given model.
+     *
+     * @param model a fresh model to play into, its Random is seeded from the replay.
+     * @param replay the replay to play.
+     * @requires model != null && replay != null
+     * @throws IllegalArgumentException if the model's board size differs from the replay's.
+     */
+    public ReplayPlayer(GameModel model, Replay replay) {
+        if (model.getWidth() != replay.getWidth() || model.getHeight() != replay.getHeight()) {
+            throw new IllegalArgumentException("The model's board size differs from the replay's");
+        }
+        this.runner = new HeadlessRunner(model, InputSource.NONE, replay.getSeed());
+        this.replay = replay;
+    }
+
+    /**
+     * Creates a player that replays into a new GameModel with the replay's board size that
+     * discards log messages.
+     *
+     * @param replay the replay to play.
+     * @requires replay != null
+     */
+    public ReplayPlayer(Replay replay) {
+        this(new GameModel(message -> {}, new PlayerStatsTracker(),
+                replay.getWidth(), replay.getHeight()), replay);
+    }
+
+    /**
+     * Returns the model being played into.
+     *
+     * @return the model.
+     */
+    public GameModel getModel() {
+        return runner.getModel();
+    }
+
+    /**
+     * Plays every recorded tick, stopping early if the game ends.
+     * Commands recorded after the last tick are applied at the end.
+     *
+     * @return the result of the playback.
+     */
+    public SimulationResult play() {
+        GameModel model = runner.getModel();
+        int next = 0;
+        int ticks = 0;
+        boolean gameOver = model.checkGameOver();
+        long start = System.nanoTime();
+        while (!gameOver && ticks < replay.getTickCount()) {
+            next = applyCommands(next, ticks);
+            runner.step(replay.getFirstTick() + ticks);
+            ticks++;
+            gameOver = model.checkGameOver();
+        }
+        if (!gameOver) {
+            applyCommands(next, ticks);
+        }
+        return runner.result(ticks, System.nanoTime() - start, gameOver);
+    }
+
+    /**
+     * Applies the commands from index next that are stamped with the given tick.
+     */
+    private int applyCommands(int next, int ticks) {
+        while (next < replay.getCommandCount() && replay.getCommandTick(next) <= ticks) {
+            runner.applyCommand(replay.getCommand(next));
+            next++;
+        }
+        return next;
+    }
+}
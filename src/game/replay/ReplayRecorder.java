@@ -0,0 +1,76 @@
+package game.replay;
+
+import java.util.Arrays;
+
+/**
+ * Records the player commands of a session, stamped with the number of ticks completed.
+ * Only the commands that change the model, "W", "A", "S", "D" and "F", are kept.
+ * <p>
+ * Commands are recorded on the UI's key thread and ticks on its step thread, so every method
+ * is synchronized.
+ */
+public class ReplayRecorder {
+    private final int seed;
+    private final int width;
+    private final int height;
+    private int firstTick;
+    private int tickCount;
+    private int[] commandTicks = new int[64];
+    private byte[] commands = new byte[64];
+    private int commandCount;
+
+    /**
+     * Creates a recorder for a session whose model was seeded with the given seed.
+     *
+     * @param seed the seed passed to GameModel.setRandomSeed().
+     * @param width the board width of the model.
+     * @param height the board height of the model.
+     * @requires width > 0 && height > 0
+     */
+    public ReplayRecorder(int seed, int width, int height) {
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Records a command issued before the next tick.
+     *
+     * @param command the upper case command key; commands that do not change the model
+     *                are ignored.
+     */
+    public synchronized void recordCommand(String command) {
+        if (command == null || command.length() != 1 || "WASDF".indexOf(command.charAt(0)) < 0) {
+            return;
+        }
+        if (commandCount == commands.length) {
+            commandTicks = Arrays.copyOf(commandTicks, commandCount * 2);
+            commands = Arrays.copyOf(commands, commandCount * 2);
+        }
+        commandTicks[commandCount] = tickCount;
+        commands[commandCount] = (byte) command.charAt(0);
+        commandCount++;
+    }
+
+    /**
+     * Records that a tick has completed.
+     *
+     * @param tick the tick value passed to GameController.onTick().
+     */
+    public synchronized void recordTick(int tick) {
+        if (tickCount == 0) {
+            firstTick = tick;
+        }
+        tickCount++;
+    }
+
+    /**
+     * Returns the session recorded so far.
+     *
+     * @return a replay of the recorded session.
+     */
+    public synchronized Replay toReplay() {
+        return new Replay(seed, width, height, firstTick, tickCount,
+                Arrays.copyOf(commandTicks, commandCount), Arrays.copyOf(commands, commandCount));
+    }
+}
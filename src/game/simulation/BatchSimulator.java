@@ -0,0 +1,139 @@
+package game.simulation;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs many independent headless games with distinct seeds across all cores.
+ * <p>
+ * Game i is seeded with firstSeed + i. The seed range is split recursively over a
+ * ForkJoinPool; each leaf runs its games one after another into its own BatchStatistics, and
+ * the partial statistics are merged as the tasks join, so workers never share mutable state.
+ */
+public class BatchSimulator {
+    // Number of games below which a task runs its games rather than splitting
+    private static final int GAMES_PER_TASK = 8;
+
+    private final Supplier<GameModel> modelFactory;
+    private final IntFunction<InputSource> inputFactory;
+    private final int maxTicks;
+
+    /**
+     * Creates a batch simulator.
+     *
+     * @param modelFactory creates a fresh model for each game, called from worker threads.
+     * @param inputFactory creates the input source for the game with the given seed.
+     * @param maxTicks the tick limit of each game.
+     * @requires modelFactory != null && inputFactory != null && maxTicks >= 0
+     */
+    public BatchSimulator(Supplier<GameModel> modelFactory, IntFunction<InputSource> inputFactory,
+                          int maxTicks) {
+        this.modelFactory = modelFactory;
+        this.inputFactory = inputFactory;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Creates a batch simulator of default games that discard log messages.
+     *
+     * @param input the input source shared by every game, must be stateless.
+     * @param maxTicks the tick limit of each game.
+     * @requires input != null && maxTicks >= 0
+     */
+    public BatchSimulator(InputSource input, int maxTicks) {
+        this(() -> new GameModel(message -> {}, new PlayerStatsTracker()), seed -> input,
+                maxTicks);
+    }
+
+    /**
+     * Runs the games on the common ForkJoinPool.
+     *
+     * @param firstSeed the seed of the first game.
+     * @param games the number of games to run.
+     * @return the merged statistics of every game.
+     * @requires games >= 0
+     */
+    public BatchStatistics run(int firstSeed, int games) {
+        return run(ForkJoinPool.commonPool(), firstSeed, games);
+    }
+
+    /**
+     * Runs the games on the given pool.
+     *
+     * @param pool the pool to run on.
+     * @param firstSeed the seed of the first game.
+     * @param games the number of games to run.
+     * @return the merged statistics of every game.
+     * @requires pool != null && games >= 0
+     */
+    public BatchStatistics run(ForkJoinPool pool, int firstSeed, int games) {
+        return pool.invoke(new GamesTask(firstSeed, firstSeed + games));
+    }
+
+    /**
+     * Runs the game with the given seed on the calling thread.
+     *
+     * @param seed the seed of the game.
+     * @return the result of the game.
+     */
+    public SimulationResult runGame(int seed) {
+        return new HeadlessRunner(modelFactory.get(), inputFactory.apply(seed), seed)
+                .run(maxTicks);
+    }
+
+    /**
+     * Runs the games with seeds in [from, to), splitting the range while it is large.
+     */
+    private class GamesTask extends RecursiveTask<BatchStatistics> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        GamesTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchStatistics compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                BatchStatistics statistics = new BatchStatistics();
+                for (int seed = from; seed < to; seed++) {
+                    statistics.record(runGame(seed));
+                }
+                return statistics;
+            }
+            int middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, middle);
+            left.fork();
+            BatchStatistics right = new GamesTask(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Runs a batch of headless games and prints the aggregated statistics.
+     * Usage: BatchSimulator [games] [firstSeed] [maxTicks] [script]
+     *
+     * @param args the optional game count, first seed, tick limit and input script.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int firstSeed = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        int maxTicks = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+        InputSource input = args.length > 3 ? new ScriptedInput(args[3]) : InputSource.NONE;
+
+        long start = System.nanoTime();
+        BatchStatistics statistics = new BatchSimulator(input, maxTicks).run(firstSeed, games);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.println(statistics);
+        System.out.printf("wall time=%.2fs, %.0f ticks/s overall%n", seconds,
+                statistics.getTotalTicks() / seconds);
+    }
+}
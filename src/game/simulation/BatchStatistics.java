@@ -0,0 +1,144 @@
+package game.simulation;
+
+import game.metrics.Histogram;
+
+/**
+ * A mergeable accumulator of SimulationResults.
+ * <p>
+ * Each batch worker records into its own instance and the instances are merged once the
+ * workers finish, so no lock is taken while games are running.
+ */
+public class BatchStatistics {
+    private final Histogram survivalTicks = new Histogram();
+    private final Histogram scores = new Histogram();
+    private final Histogram levels = new Histogram();
+    private long games;
+    private long gamesOver;
+    private long totalTicks;
+    private long totalNanos;
+    private long shotsFired;
+    private long shotsHit;
+
+    /**
+     * Creates an empty accumulator.
+     */
+    public BatchStatistics() {  }
+
+    /**
+     * Adds a single game's result.
+     *
+     * @param result the result to add.
+     * @requires result != null
+     */
+    public void record(SimulationResult result) {
+        games++;
+        if (result.isGameOver()) {
+            gamesOver++;
+        }
+        totalTicks += result.getTicks();
+        totalNanos += result.getElapsedNanos();
+        shotsFired += result.getShotsFired();
+        shotsHit += result.getShotsHit();
+        survivalTicks.record(result.getTicks());
+        scores.record(result.getScore());
+        levels.record(result.getLevel());
+    }
+
+    /**
+     * Adds every result recorded in the other accumulator to this one.
+     *
+     * @param other the accumulator to merge in.
+     * @return this accumulator.
+     * @requires other != null
+     */
+    public BatchStatistics merge(BatchStatistics other) {
+        games += other.games;
+        gamesOver += other.gamesOver;
+        totalTicks += other.totalTicks;
+        totalNanos += other.totalNanos;
+        shotsFired += other.shotsFired;
+        shotsHit += other.shotsHit;
+        survivalTicks.merge(other.survivalTicks);
+        scores.merge(other.scores);
+        levels.merge(other.levels);
+        return this;
+    }
+
+    /**
+     * Returns the number of games recorded.
+     * @return the number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games that ended with the ship destroyed.
+     * @return the number of finished games.
+     */
+    public long getGamesOver() {
+        return gamesOver;
+    }
+
+    /**
+     * Returns the total number of ticks simulated across all games.
+     * @return the total ticks.
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Returns the simulation speed of a single worker, summed over all games.
+     * @return ticks per second of per-game simulation time.
+     */
+    public double getTicksPerSecond() {
+        return totalNanos == 0 ? 0.0 : totalTicks * 1_000_000_000.0 / totalNanos;
+    }
+
+    /**
+     * Returns the accuracy over every shot fired in every game.
+     * @return shots hit divided by shots fired, or 0.0 if no shots were fired.
+     */
+    public double getAccuracy() {
+        return shotsFired == 0 ? 0.0 : (double) shotsHit / shotsFired;
+    }
+
+    /**
+     * Returns the distribution of the number of ticks each game lasted.
+     * @return the survival tick histogram.
+     */
+    public Histogram getSurvivalTicks() {
+        return survivalTicks;
+    }
+
+    /**
+     * Returns the distribution of final scores.
+     * @return the score histogram.
+     */
+    public Histogram getScores() {
+        return scores;
+    }
+
+    /**
+     * Returns the distribution of final levels.
+     * @return the level histogram.
+     */
+    public Histogram getLevels() {
+        return levels;
+    }
+
+    /**
+     * Returns a multi-line report of the batch.
+     * @return the report.
+     */
+    @Override
+    public String toString() {
+        return "games=" + games + " gameOver=" + gamesOver + " totalTicks=" + totalTicks
+                + String.format(" ticks/s/worker=%.0f accuracy=%.2f", getTicksPerSecond(),
+                        getAccuracy())
+                + "\nsurvival ticks: " + survivalTicks
+                + "\nscore: " + scores
+                + "\nlevel: " + levels;
+    }
+}
@@ -0,0 +1,145 @@
+package game.simulation;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+
+/**
+ * Drives a GameModel in a tight loop, without a UI, as fast as the machine allows.
+ * <p>
+ * Each tick applies the input source's command, then advances the model with
+ * GameModel.advance(), which has the same result as GameController.onTick() calling
+ * updateGame, checkCollisions, spawnObjects and levelUp. Achievements and rendering are
+ * skipped. The run stops when checkGameOver() is true or the tick limit is
+ * reached.
+ */
+public class HeadlessRunner {
+    private final GameModel model;
+    private final InputSource input;
+    private final int seed;
+
+    /**
+     * Creates a runner over the given model, seeding its Random.
+     *
+     * @param model the model to drive.
+     * @param input the source of player commands.
+     * @param seed the seed passed to model.setRandomSeed().
+     * @requires model != null && input != null
+     */
+    public HeadlessRunner(GameModel model, InputSource input, int seed) {
+        this.model = model;
+        this.input = input;
+        this.seed = seed;
+        model.setRandomSeed(seed);
+    }
+
+    /**
+     * Creates a runner over a new default GameModel that discards all log messages.
+     *
+     * @param input the source of player commands.
+     * @param seed the seed passed to model.setRandomSeed().
+     * @requires input != null
+     */
+    public HeadlessRunner(InputSource input, int seed) {
+        this(new GameModel(message -> {}, new PlayerStatsTracker()), input, seed);
+    }
+
+    /**
+     * Returns the model being driven.
+     *
+     * @return the model.
+     */
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Runs the game until it is over or maxTicks ticks have been simulated.
+     *
+     * @param maxTicks the maximum number of ticks to simulate.
+     * @return the result, including ticks per second and the final stats.
+     * @requires maxTicks >= 0
+     */
+    public SimulationResult run(int maxTicks) {
+        int tick = 0;
+        boolean gameOver = model.checkGameOver();
+        long start = System.nanoTime();
+        while (!gameOver && tick < maxTicks) {
+            applyCommand(input.commandFor(tick));
+            step(tick);
+            tick++;
+            gameOver = model.checkGameOver();
+        }
+        return result(tick, System.nanoTime() - start, gameOver);
+    }
+
+    /**
+     * Advances the model by one tick, with the same result as GameController.onTick().
+     *
+     * @param tick the tick value passed to advance().
+     */
+    public void step(int tick) {
+        model.advance(tick);
+    }
+
+    /**
+     * Builds the result of a run from the model's current state.
+     *
+     * @param ticks the number of ticks simulated.
+     * @param elapsed the wall-clock time spent, in nanoseconds.
+     * @param gameOver whether the game ended by the ship being destroyed.
+     * @return the simulation result.
+     */
+    public SimulationResult result(int ticks, long elapsed, boolean gameOver) {
+        PlayerStatsTracker stats = model.getStatsTracker();
+        return new SimulationResult(seed, ticks, elapsed, gameOver, model.getShip().getScore(),
+                model.getLevel(), stats.getShotsFired(), stats.getShotsHit(),
+                stats.getAccuracy());
+    }
+
+    /**
+     * Applies a command the way GameController.handlePlayerInput() does, ignoring moves
+     * that would leave the board.
+     *
+     * @param command one of "W", "A", "S", "D" or "F"; null and other commands are ignored.
+     */
+    public void applyCommand(String command) {
+        if (command == null) {
+            return;
+        }
+        switch (command) {
+            case "W" -> moveShip(Direction.UP);
+            case "A" -> moveShip(Direction.LEFT);
+            case "S" -> moveShip(Direction.DOWN);
+            case "D" -> moveShip(Direction.RIGHT);
+            case "F" -> {
+                model.getStatsTracker().recordShotFired();
+                model.fireBullet();
+            }
+            default -> { }
+        }
+    }
+
+    private void moveShip(Direction direction) {
+        try {
+            model.getShip().move(direction);
+        } catch (BoundaryExceededException error) {
+            return;
+        }
+        model.checkCollisions();
+    }
+
+    /**
+     * Runs a single headless game and prints the result.
+     * Usage: HeadlessRunner [seed] [maxTicks] [script]
+     *
+     * @param args the optional seed, tick limit and input script.
+     */
+    public static void main(String[] args) {
+        int seed = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        int maxTicks = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        InputSource input = args.length > 2 ? new ScriptedInput(args[2]) : InputSource.NONE;
+        System.out.println(new HeadlessRunner(input, seed).run(maxTicks));
+    }
+}
@@ -0,0 +1,22 @@
+package game.simulation;
+
+/**
+ * Supplies player commands to a simulation, one optional command per tick.
+ * Commands use the same keys as GameController.handlePlayerInput: "W", "A", "S", "D" and "F".
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /**
+     * An input source that never issues a command.
+     */
+    InputSource NONE = tick -> null;
+
+    /**
+     * Returns the command issued before the given tick.
+     *
+     * @param tick the tick about to be simulated.
+     * @return the command for this tick, or null if there is none.
+     */
+    String commandFor(int tick);
+}
@@ -0,0 +1,33 @@
+package game.simulation;
+
+/**
+ * An InputSource that replays a fixed script of commands, one character per tick,
+ * starting again from the beginning once the script runs out.
+ * <p>
+ * Any character other than a command key, e.g. '.', means no command on that tick.
+ */
+public class ScriptedInput implements InputSource {
+    private final String script;
+
+    /**
+     * Creates a scripted input source.
+     *
+     * @param script the commands to replay, e.g. "F..D..F..A..".
+     * @requires script != null && !script.isEmpty()
+     */
+    public ScriptedInput(String script) {
+        if (script == null || script.isEmpty()) {
+            throw new IllegalArgumentException("The script should not be null nor empty");
+        }
+        this.script = script;
+    }
+
+    @Override
+    public String commandFor(int tick) {
+        char command = Character.toUpperCase(script.charAt(Math.floorMod(tick, script.length())));
+        return switch (command) {
+            case 'W', 'A', 'S', 'D', 'F' -> String.valueOf(command);
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package game.simulation;
+
+/**
+ * The outcome of a single headless game simulation.
+ */
+public class SimulationResult {
+    private final long seed;
+    private final int ticks;
+    private final long elapsedNanos;
+    private final boolean gameOver;
+    private final int score;
+    private final int level;
+    private final int shotsFired;
+    private final int shotsHit;
+    private final double accuracy;
+
+    /**
+     * Creates a simulation result.
+     *
+     * @param seed the seed the game's Random was set to.
+     * @param ticks the number of ticks simulated.
+     * @param elapsedNanos the wall-clock time spent simulating, in nanoseconds.
+     * @param gameOver whether the game ended by the ship being destroyed.
+     * @param score the final ship score.
+     * @param level the final level.
+     * @param shotsFired the final number of shots fired.
+     * @param shotsHit the final number of shots hit.
+     * @param accuracy the final shooting accuracy.
+     */
+    public SimulationResult(long seed, int ticks, long elapsedNanos, boolean gameOver, int score,
+                            int level, int shotsFired, int shotsHit, double accuracy) {
+        this.seed = seed;
+        this.ticks = ticks;
+        this.elapsedNanos = elapsedNanos;
+        this.gameOver = gameOver;
+        this.score = score;
+        this.level = level;
+        this.shotsFired = shotsFired;
+        this.shotsHit = shotsHit;
+        this.accuracy = accuracy;
+    }
+
+    /**
+     * Returns the seed the game's Random was set to.
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of ticks simulated, up to and including the game over tick.
+     * @return the number of ticks.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns the wall-clock time spent simulating.
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the simulation speed.
+     * @return the number of ticks simulated per second of wall-clock time.
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : ticks * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns whether the game ended by the ship being destroyed.
+     * @return true if checkGameOver() was reached, false if the tick limit was reached first.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the final ship score.
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the final level.
+     * @return the level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the final number of shots fired.
+     * @return the number of shots fired.
+     */
+    public int getShotsFired() {
+        return shotsFired;
+    }
+
+    /**
+     * Returns the final number of shots hit.
+     * @return the number of shots hit.
+     */
+    public int getShotsHit() {
+        return shotsHit;
+    }
+
+    /**
+     * Returns the final shooting accuracy.
+     * @return the accuracy as a decimal.
+     */
+    public double getAccuracy() {
+        return accuracy;
+    }
+
+    /**
+     * Returns a one-line report of the result.
+     * @return the report.
+     */
+    @Override
+    public String toString() {
+        return "seed=" + seed + " ticks=" + ticks
+                + String.format(" ticks/s=%.0f", getTicksPerSecond())
+                + " gameOver=" + gameOver + " score=" + score + " level=" + level
+                + " shotsFired=" + shotsFired + " shotsHit=" + shotsHit
+                + String.format(" accuracy=%.2f", accuracy);
+    }
+}
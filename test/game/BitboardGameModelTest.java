@@ -0,0 +1,128 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BitboardGameModelTest {
+
+    private BitboardGameModel model;
+
+    @Before
+    public void setUp() {
+        model = new BitboardGameModel(message -> {}, new PlayerStatsTracker(0L));
+    }
+
+    private static List<String> sorted(List<SpaceObject> objects) {
+        List<String> names = new ArrayList<>();
+        for (SpaceObject object : objects) {
+            names.add(object.toString());
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoardTooLarge() {
+        new BitboardGameModel(message -> {}, new PlayerStatsTracker(0L), 20, 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOffBoardObjectRejected() {
+        model.addObject(new Bullet(0, -1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSharedCellRejected() {
+        model.addObject(new Asteroid(2, 2));
+        model.addObject(new Enemy(2, 2));
+    }
+
+    @Test
+    public void testUpdateGameShiftsPopulations() {
+        model.addObject(new Bullet(0, 0));
+        model.addObject(new Bullet(3, 7));
+        model.addObject(new Enemy(1, 19));
+        model.addObject(new Asteroid(4, 4));
+
+        model.updateGame(1);
+        assertEquals(List.of("Asteroid(4, 4)", "Bullet(3, 6)", "Enemy(1, 19)"),
+                sorted(model.getSpaceObjects()));
+
+        model.updateGame(10);
+        assertEquals(List.of("Asteroid(4, 5)", "Bullet(3, 5)"), sorted(model.getSpaceObjects()));
+    }
+
+    @Test
+    public void testStackedBulletsEachHitEnemy() {
+        model.addObject(new Bullet(1, 1));
+        model.addObject(new Bullet(1, 1));
+        model.addObject(new Enemy(1, 1));
+        model.addObject(new Bullet(2, 2));
+        model.addObject(new Asteroid(2, 2));
+
+        model.checkCollisions();
+
+        assertEquals(2, model.getStatsTracker().getShotsHit());
+        assertEquals(List.of("Asteroid(2, 2)"), sorted(model.getSpaceObjects()));
+    }
+
+    @Test
+    public void testShipCollisions() {
+        Ship ship = model.getShip();
+        ship.takeDamage(50);
+        model.addObject(new HealthPowerUp(ship.getX(), ship.getY()));
+        model.checkCollisions();
+        assertEquals(70, ship.getHealth());
+
+        model.addObject(new Enemy(ship.getX(), ship.getY()));
+        model.checkCollisions();
+        assertEquals(70 - GameModel.ENEMY_DAMAGE, ship.getHealth());
+        assertTrue(model.getSpaceObjects().isEmpty());
+    }
+
+    @Test
+    public void testMatchesGameModelOverSeededGame() {
+        GameModel reference = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+        reference.setRandomSeed(4242);
+        model.setRandomSeed(4242);
+        Random inputs = new Random(9);
+        Direction[] directions = Direction.values();
+
+        for (int tick = 0; tick < 20_000 && !reference.checkGameOver(); tick++) {
+            int action = inputs.nextInt(6);
+            Direction direction = directions[inputs.nextInt(directions.length)];
+            for (GameModel game : new GameModel[] {reference, model}) {
+                if (action <= 1) {
+                    game.fireBullet();
+                } else if (action == 2) {
+                    try {
+                        game.getShip().move(direction);
+                        game.checkCollisions();
+                    } catch (BoundaryExceededException ignored) {
+                        // stays in place at the edge
+                    }
+                }
+                game.advance(tick);
+            }
+            assertEquals("Objects differ at tick " + tick,
+                    sorted(reference.getSpaceObjects()), sorted(model.getSpaceObjects()));
+            assertEquals(reference.getShip().getHealth(), model.getShip().getHealth());
+            assertEquals(reference.getShip().getScore(), model.getShip().getScore());
+            assertEquals(reference.getLevel(), model.getLevel());
+            assertEquals(reference.getStatsTracker().getShotsHit(),
+                    model.getStatsTracker().getShotsHit());
+        }
+        assertTrue("The run should include hits", reference.getStatsTracker().getShotsHit() > 0);
+    }
+}
@@ -0,0 +1,96 @@
+package game;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BitboardTest {
+
+    private Bitboard board;
+
+    @Before
+    public void setUp() {
+        board = new Bitboard(200);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyCells() {
+        new Bitboard(Bitboard.MAX_CELLS + 1);
+    }
+
+    @Test
+    public void testSetGetClear() {
+        board.set(0);
+        board.set(63);
+        board.set(64);
+        board.set(199);
+
+        assertTrue(board.get(63));
+        assertTrue(board.get(64));
+        assertFalse(board.get(65));
+        assertEquals(4, board.cardinality());
+
+        board.clear(64);
+        assertFalse(board.get(64));
+        board.clear();
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    public void testNextSetBit() {
+        board.set(5);
+        board.set(130);
+        board.set(199);
+
+        assertEquals(5, board.nextSetBit(0));
+        assertEquals(130, board.nextSetBit(6));
+        assertEquals(199, board.nextSetBit(131));
+        assertEquals(-1, board.nextSetBit(200));
+    }
+
+    @Test
+    public void testShiftDownCarriesAcrossWordsAndDropsLastRow() {
+        board.set(60); // (0, 6)
+        board.set(195); // (5, 19), last row
+
+        board.shiftDown(10);
+
+        assertEquals(1, board.cardinality());
+        assertTrue(board.get(70));
+    }
+
+    @Test
+    public void testShiftUpCarriesAcrossWordsAndDropsFirstRow() {
+        board.set(3); // first row
+        board.set(68);
+        board.set(199);
+
+        board.shiftUp(10);
+
+        assertEquals(2, board.cardinality());
+        assertTrue(board.get(58));
+        assertTrue(board.get(189));
+    }
+
+    @Test
+    public void testSetOperations() {
+        Bitboard other = new Bitboard(200);
+        board.set(1);
+        board.set(150);
+        other.set(150);
+        other.set(151);
+
+        assertTrue(board.intersects(other));
+        Bitboard copy = new Bitboard(200);
+        copy.copyFrom(board);
+        copy.and(other);
+        assertEquals(1, copy.cardinality());
+        assertTrue(copy.get(150));
+
+        board.andNot(other);
+        assertFalse(board.intersects(other));
+        board.or(other);
+        assertEquals(3, board.cardinality());
+    }
+}
@@ -0,0 +1,50 @@
+package game;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CellSetTest {
+
+    private CellSet cells;
+
+    @Before
+    public void setUp() {
+        cells = new CellSet();
+    }
+
+    @Test
+    public void testAddIgnoresDuplicates() {
+        assertTrue(cells.add(1, 2));
+        assertFalse(cells.add(1, 2));
+        assertTrue(cells.add(2, 1));
+
+        assertEquals(2, cells.size());
+        assertTrue(cells.contains(1, 2));
+        assertFalse(cells.contains(3, 3));
+    }
+
+    @Test
+    public void testCellsKeepInsertionOrder() {
+        for (int i = 0; i < 100; i++) {
+            cells.add(i % 10, -i);
+        }
+
+        assertEquals(100, cells.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 10, cells.getX(i));
+            assertEquals(-i, cells.getY(i));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        cells.add(4, 4);
+        cells.clear();
+
+        assertEquals(0, cells.size());
+        assertFalse(cells.contains(4, 4));
+        assertTrue(cells.add(4, 4));
+    }
+}
@@ -0,0 +1,104 @@
+package game;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CellTableTest {
+
+    private CellTable table;
+
+    @Before
+    public void setUp() {
+        table = new CellTable();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        table.put(3, 4, 7);
+        table.put(-1, 20, 8);
+
+        assertEquals(7, table.get(3, 4));
+        assertEquals(8, table.get(-1, 20));
+        assertEquals(CellTable.ABSENT, table.get(4, 3));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        table.put(1, 1, 1);
+        table.put(1, 1, 2);
+
+        assertEquals(2, table.get(1, 1));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testGrowsPastInitialCapacity() {
+        for (int i = 0; i < 10_000; i++) {
+            table.put(i % 1000, i / 1000, i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, table.get(i % 1000, i / 1000));
+        }
+        assertEquals(10_000, table.size());
+    }
+
+    @Test
+    public void testClear() {
+        table.put(0, 0, 0);
+        table.put(999, 1999, 1);
+
+        table.clear();
+
+        assertEquals(0, table.size());
+        assertEquals(CellTable.ABSENT, table.get(0, 0));
+        assertEquals(CellTable.ABSENT, table.get(999, 1999));
+    }
+
+    @Test
+    public void testRemove() {
+        table.put(1, 1, 1);
+        table.put(2, 2, 2);
+
+        assertEquals(1, table.remove(1, 1));
+        assertEquals(CellTable.ABSENT, table.remove(1, 1));
+        assertEquals(CellTable.ABSENT, table.get(1, 1));
+        assertEquals(2, table.get(2, 2));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testRemoveKeepsCollidingEntriesReachable() {
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            int x = random.nextInt(40);
+            int y = random.nextInt(40);
+            long key = ((long) x << 32) | y;
+            if (random.nextBoolean()) {
+                table.put(x, y, i);
+                expected.put(key, i);
+            } else {
+                assertEquals((int) expected.getOrDefault(key, CellTable.ABSENT),
+                        table.remove(x, y));
+                expected.remove(key);
+            }
+        }
+        assertEquals(expected.size(), table.size());
+        for (int x = 0; x < 40; x++) {
+            for (int y = 0; y < 40; y++) {
+                long key = ((long) x << 32) | y;
+                assertEquals((int) expected.getOrDefault(key, CellTable.ABSENT), table.get(x, y));
+            }
+        }
+        table.clear();
+        assertEquals(CellTable.ABSENT, table.get(0, 0));
+        assertEquals(0, table.size());
+    }
+}
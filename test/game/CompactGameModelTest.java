@@ -0,0 +1,126 @@
+package game;
+
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.exceptions.BoundaryExceededException;
+import game.utility.Direction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CompactGameModelTest {
+
+    private CompactGameModel model;
+
+    @Before
+    public void setUp() {
+        model = new CompactGameModel(message -> {}, new PlayerStatsTracker(0L));
+    }
+
+    @Test
+    public void testAddedObjectsAreViewedInOrder() {
+        model.addObject(new Asteroid(1, 2));
+        model.addObject(new Bullet(3, 4));
+
+        List<SpaceObject> views = model.getSpaceObjects();
+        assertEquals(2, views.size());
+        assertTrue(views.get(0) instanceof Asteroid);
+        assertEquals("Bullet(3, 4)", views.get(1).toString());
+    }
+
+    @Test
+    public void testUpdateGameMovesAndRemovesOutOfBounds() {
+        model.addObject(new Bullet(0, 0));
+        model.addObject(new Enemy(1, 1));
+
+        model.updateGame(10);
+
+        List<SpaceObject> views = model.getSpaceObjects();
+        assertEquals("Bullet should leave the board", 1, views.size());
+        assertEquals("Enemy(1, 2)", views.get(0).toString());
+    }
+
+    @Test
+    public void testBulletHitsEnemy() {
+        model.addObject(new Bullet(2, 2));
+        model.addObject(new Enemy(2, 2));
+
+        model.checkCollisions();
+
+        assertTrue(model.getSpaceObjects().isEmpty());
+        assertEquals(1, model.getStatsTracker().getShotsHit());
+    }
+
+    @Test
+    public void testShipHitByAsteroid() {
+        Ship ship = model.getShip();
+        model.addObject(new Asteroid(ship.getX(), ship.getY()));
+
+        model.checkCollisions();
+
+        assertTrue(model.getSpaceObjects().isEmpty());
+        assertEquals(100 - GameModel.ASTEROID_DAMAGE, ship.getHealth());
+    }
+
+    @Test
+    public void testForeignObjectsAreKept() {
+        SpaceObject other = new SpaceObject() {
+            public void tick(int tick) {}
+            public int getX() { return 3; }
+            public int getY() { return 3; }
+            public game.ui.ObjectGraphic render() { return null; }
+        };
+        model.addObject(other);
+        model.addObject(new Bullet(3, 3));
+
+        model.checkCollisions();
+
+        assertSame(other, model.getSpaceObjects().get(0));
+        assertEquals(2, model.getSpaceObjects().size());
+    }
+
+    @Test
+    public void testMatchesGameModelOverSeededGame() {
+        GameModel reference = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+        reference.setRandomSeed(2002);
+        model.setRandomSeed(2002);
+        Random inputs = new Random(7);
+        Direction[] directions = Direction.values();
+
+        for (int tick = 0; tick < 5000 && !reference.checkGameOver(); tick++) {
+            int action = inputs.nextInt(8);
+            if (action == 0) {
+                reference.fireBullet();
+                model.fireBullet();
+            } else if (action == 1) {
+                Direction direction = directions[inputs.nextInt(directions.length)];
+                moveQuietly(reference.getShip(), direction);
+                moveQuietly(model.getShip(), direction);
+            }
+            for (GameModel game : new GameModel[] {reference, model}) {
+                game.updateGame(tick);
+                game.checkCollisions();
+                game.spawnObjects();
+                game.levelUp();
+            }
+            assertEquals("Objects differ at tick " + tick,
+                    reference.getSpaceObjects().toString(), model.getSpaceObjects().toString());
+            assertEquals(reference.getShip().getHealth(), model.getShip().getHealth());
+            assertEquals(reference.getShip().getScore(), model.getShip().getScore());
+            assertEquals(reference.getStatsTracker().getShotsHit(),
+                    model.getStatsTracker().getShotsHit());
+        }
+    }
+
+    private static void moveQuietly(Ship ship, Direction direction) {
+        try {
+            ship.move(direction);
+        } catch (BoundaryExceededException ignored) {
+            // stays in place at the edge
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package game;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EntityStoreTest {
+
+    private EntityStore store;
+
+    @Before
+    public void setUp() {
+        store = new EntityStore(10, 20);
+    }
+
+    @Test
+    public void testIsOccupiedFollowsAddsAndRemovals() {
+        assertFalse(store.isOccupied(2, 3));
+        int asteroid = store.add(EntityStore.ASTEROID, 2, 3);
+        assertTrue(store.isOccupied(2, 3));
+
+        store.add(EntityStore.ENEMY, 4, 5);
+        assertTrue(store.isOccupied(4, 5));
+        store.remove(asteroid);
+        assertFalse(store.isOccupied(2, 3));
+    }
+
+    @Test
+    public void testIsOccupiedAfterTickAndSweep() {
+        store.add(EntityStore.BULLET, 2, 3);
+        assertTrue(store.isOccupied(2, 3));
+
+        store.tick(1);
+        store.sweep();
+        assertFalse(store.isOccupied(2, 3));
+        assertTrue(store.isOccupied(2, 2));
+    }
+
+    @Test
+    public void testSlotsAddedAfterBuildGridKeepSlotOrder() {
+        int bullet = store.add(EntityStore.BULLET, 1, 1);
+        int first = store.add(EntityStore.ASTEROID, 1, 1);
+        store.buildGrid();
+        int second = store.add(EntityStore.ENEMY, 1, 1);
+
+        assertEquals(first, store.firstTargetAt(1, 1, bullet));
+        assertEquals(second, store.firstTargetAt(1, 1, first));
+    }
+}
@@ -300,6 +300,24 @@ public class GameControllerTest {
         }
     }
 
+    @Test
+    public void testShotIsRecordedBeforeTheBulletIsFired() {
+        int[] firedWhenBulletAdded = {-1};
+        GameModel model = new GameModel(message -> {}, new PlayerStatsTracker()) {
+            @Override
+            public void fireBullet() {
+                firedWhenBulletAdded[0] = getStatsTracker().getShotsFired();
+                super.fireBullet();
+            }
+        };
+        controller = new GameController(testUI, model, new TestAchievementManager());
+
+        controller.handlePlayerInput("F");
+
+        assertEquals(1, firedWhenBulletAdded[0]);
+        assertEquals(1, model.getStatsTracker().getShotsFired());
+    }
+
     @Test
     public void testHandlePlayerInputInvalidInput() {
         String[] invalidInput = {"Z", "z"};
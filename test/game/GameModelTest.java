@@ -743,6 +743,230 @@ public class GameModelTest {
         model.checkCollisions();
     }
 
+    //-------------TEST BOARD SIZE--------------------
+    @Test
+    public void testDefaultBoardSize() {
+        assertEquals(GameModel.GAME_WIDTH, model.getWidth());
+        assertEquals(GameModel.GAME_HEIGHT, model.getHeight());
+        assertEquals(5, ship.getX());
+        assertEquals(10, ship.getY());
+    }
+
+    @Test
+    public void testLargeBoardShipStartsAtCentreAndMovesToEdge() {
+        GameModel large = new GameModel(testUI::log, new PlayerStatsTracker(0L), 1000, 2000);
+        Ship largeShip = large.getShip();
+        assertEquals(500, largeShip.getX());
+        assertEquals(1000, largeShip.getY());
+
+        for (int i = 0; i < 499; i++) {
+            largeShip.move(game.utility.Direction.RIGHT);
+        }
+        assertEquals(999, largeShip.getX());
+        try {
+            largeShip.move(game.utility.Direction.RIGHT);
+            fail("Moving past the board edge should throw");
+        } catch (game.exceptions.BoundaryExceededException expected) {
+            assertEquals(999, largeShip.getX());
+        }
+    }
+
+    @Test
+    public void testLargeBoardKeepsObjectsBeyondDefaultBounds() {
+        GameModel large = new GameModel(testUI::log, new PlayerStatsTracker(0L), 1000, 2000);
+        SpaceObject asteroid = new Asteroid(900, 1500);
+        large.addObject(asteroid);
+
+        large.updateGame(10);
+
+        assertTrue(large.isOnBoard(asteroid));
+        assertFalse(GameModel.isInBounds(asteroid));
+        assertTrue(large.getSpaceObjects().contains(asteroid));
+    }
+
+    @Test
+    public void testLargeBoardSpawnsAcrossWidth() {
+        GameModel large = new GameModel(testUI::log, new PlayerStatsTracker(0L), 1000, 2000);
+        large.setRandomSeed(1);
+        for (int i = 0; i < 2000; i++) {
+            large.spawnObjects();
+        }
+        boolean beyondDefaultWidth = false;
+        for (SpaceObject spaceObject : large.getSpaceObjects()) {
+            assertTrue(large.isOnBoard(spaceObject));
+            beyondDefaultWidth |= spaceObject.getX() >= GameModel.GAME_WIDTH;
+        }
+        assertTrue(beyondDefaultWidth);
+    }
+
+    @Test
+    public void testCheckCollisionsShipMovesOntoStationaryAsteroid() {
+        ship.heal(100);
+        SpaceObject asteroid = new Asteroid(ship.getX() + 1, ship.getY());
+        model.addObject(asteroid);
+        model.checkCollisions();
+        assertTrue(model.getSpaceObjects().contains(asteroid));
+
+        ship.move(game.utility.Direction.RIGHT);
+        model.checkCollisions();
+
+        assertFalse(model.getSpaceObjects().contains(asteroid));
+        assertEquals(100 - GameModel.ASTEROID_DAMAGE, ship.getHealth());
+    }
+
+    @Test
+    public void testCheckCollisionsBulletMovesOntoStationaryEnemy() {
+        SpaceObject enemy = new Enemy(3, 3);
+        model.addObject(enemy);
+        model.checkCollisions();
+        SpaceObject bullet = new Bullet(3, 4);
+        model.addObject(bullet);
+        model.checkCollisions();
+        assertEquals(0, model.getStatsTracker().getShotsHit());
+
+        model.updateGame(1); // the enemy only moves on multiples of 10
+        model.checkCollisions();
+
+        assertFalse(model.getSpaceObjects().contains(enemy));
+        assertFalse(model.getSpaceObjects().contains(bullet));
+        assertEquals(1, model.getStatsTracker().getShotsHit());
+    }
+
+    @Test
+    public void testCheckCollisionsFindsObjectsAddedToListDirectly() {
+        ship.heal(100);
+        model.checkCollisions();
+        SpaceObject enemy = new Enemy(ship.getX(), ship.getY());
+        model.getSpaceObjects().add(enemy);
+
+        model.checkCollisions();
+
+        assertFalse(model.getSpaceObjects().contains(enemy));
+        assertEquals(100 - GameModel.ENEMY_DAMAGE, ship.getHealth());
+    }
+
+    @Test
+    public void testObjectReplacedInListDirectlyIsTicked() {
+        model.addObject(new Asteroid(2, 2));
+        Bullet bullet = new Bullet(3, 5);
+        model.getSpaceObjects().set(0, bullet);
+
+        for (int tick = 1; tick <= 3; tick++) {
+            model.updateGame(tick);
+        }
+
+        assertEquals(2, bullet.getY());
+        assertEquals(List.of(bullet), model.getSpaceObjects());
+    }
+
+    @Test
+    public void testCheckCollisionsAfterSwappingObjectsInListDirectly() {
+        Enemy enemy = new Enemy(2, 2);
+        Asteroid asteroid = new Asteroid(4, 5);
+        model.addObject(enemy);
+        model.addObject(asteroid);
+        model.checkCollisions();
+        Bullet bullet = new Bullet(4, 5);
+        model.getSpaceObjects().remove(enemy);
+        model.getSpaceObjects().add(bullet);
+
+        model.checkCollisions();
+
+        assertFalse(model.getSpaceObjects().contains(bullet));
+        assertTrue(model.getSpaceObjects().contains(asteroid));
+    }
+
+    @Test
+    public void testWaveOfBulletsLeavingKeepsSurvivorOrder() {
+        GameModel large = new GameModel(testUI::log, new PlayerStatsTracker(0L), 10_000,
+                GameModel.GAME_HEIGHT);
+        List<SpaceObject> asteroids = new ArrayList<>();
+        for (int x = 0; x < 10_000; x++) {
+            large.addObject(new Bullet(x, 0));
+            SpaceObject asteroid = new Asteroid(x, 5);
+            asteroids.add(asteroid);
+            large.addObject(asteroid);
+        }
+
+        large.updateGame(1);
+
+        assertEquals(asteroids, large.getSpaceObjects());
+    }
+
+    @Test
+    public void testManyCollisionsKeepSurvivorOrder() {
+        GameModel large = new GameModel(testUI::log, new PlayerStatsTracker(0L), 10_000,
+                GameModel.GAME_HEIGHT);
+        List<SpaceObject> asteroids = new ArrayList<>();
+        for (int x = 0; x < 10_000; x++) {
+            SpaceObject asteroid = new Asteroid(x, 5);
+            asteroids.add(asteroid);
+            large.addObject(asteroid);
+            large.addObject(new Bullet(x, 5));
+        }
+
+        large.checkCollisions();
+
+        assertEquals(asteroids, large.getSpaceObjects());
+    }
+
+    @Test
+    public void testAdvanceMatchesSeparateCalls() {
+        GameModel separate = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+        GameModel fused = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+        separate.setRandomSeed(12);
+        fused.setRandomSeed(12);
+        Random inputs = new Random(3);
+        game.utility.Direction[] directions = game.utility.Direction.values();
+
+        for (int tick = 0; tick < 5000 && !separate.checkGameOver(); tick++) {
+            int action = inputs.nextInt(6);
+            for (GameModel game : new GameModel[] {separate, fused}) {
+                if (action == 0) {
+                    game.fireBullet();
+                } else if (action == 1) {
+                    try {
+                        game.getShip().move(directions[tick % directions.length]);
+                        game.checkCollisions();
+                    } catch (game.exceptions.BoundaryExceededException ignored) {
+                        // stays in place at the edge
+                    }
+                }
+            }
+            separate.updateGame(tick);
+            separate.checkCollisions();
+            separate.spawnObjects();
+            separate.levelUp();
+            fused.advance(tick);
+
+            assertEquals("Objects differ at tick " + tick,
+                    separate.getSpaceObjects().toString(), fused.getSpaceObjects().toString());
+            assertEquals(separate.getShip().toString(), fused.getShip().toString());
+            assertEquals(separate.getShip().getHealth(), fused.getShip().getHealth());
+            assertEquals(separate.getShip().getScore(), fused.getShip().getScore());
+            assertEquals(separate.getLevel(), fused.getLevel());
+            assertEquals(separate.getStatsTracker().getShotsHit(),
+                    fused.getStatsTracker().getShotsHit());
+        }
+    }
+
+    @Test
+    public void testAdvanceRemovesLeavingAndCollidedObjects() {
+        ship.heal(100);
+        SpaceObject leaving = new Bullet(0, 0);
+        SpaceObject bullet = new Bullet(4, 4);
+        SpaceObject asteroid = new Asteroid(4, 3);
+        model.addObject(leaving);
+        model.addObject(bullet);
+        model.addObject(asteroid);
+        model.setRandomSeed(0);
+
+        model.advance(1);
+
+        assertFalse(model.getSpaceObjects().contains(leaving));
+        assertFalse(model.getSpaceObjects().contains(bullet));
+        assertTrue(model.getSpaceObjects().contains(asteroid));
+    }
 
 
 
@@ -0,0 +1,145 @@
+package game;
+
+import game.achievements.ConcurrentStatsTracker;
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.simulation.HeadlessRunner;
+import game.simulation.ScriptedInput;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class GameSnapshotTest {
+
+    private ByteBuffer buffer;
+
+    @Before
+    public void setUp() {
+        buffer = ByteBuffer.allocate(4096);
+    }
+
+    private static GameModel newModel() {
+        return new GameModel(message -> {}, new PlayerStatsTracker(0L));
+    }
+
+    @Test
+    public void testRoundTripRestoresState() {
+        HeadlessRunner runner = new HeadlessRunner(new ScriptedInput("F.A.F.D."), 11);
+        runner.run(3000);
+        GameModel original = runner.getModel();
+
+        int written = GameSnapshot.write(original, buffer);
+        assertTrue("Typical snapshot should be under 1 KB, was " + written, written < 1024);
+        assertEquals(written, buffer.position());
+
+        GameModel restored = newModel();
+        buffer.flip();
+        GameSnapshot.restore(buffer, restored);
+
+        assertFalse(buffer.hasRemaining());
+        assertEquals(original.getShip().toString(), restored.getShip().toString());
+        assertEquals(original.getShip().getHealth(), restored.getShip().getHealth());
+        assertEquals(original.getShip().getScore(), restored.getShip().getScore());
+        assertEquals(original.getLevel(), restored.getLevel());
+        assertEquals(original.getSpawnRate(), restored.getSpawnRate());
+        assertEquals(original.getStatsTracker().getShotsFired(),
+                restored.getStatsTracker().getShotsFired());
+        assertEquals(original.getStatsTracker().getShotsHit(),
+                restored.getStatsTracker().getShotsHit());
+        assertEquals(original.getSpaceObjects().toString(), restored.getSpaceObjects().toString());
+    }
+
+    @Test
+    public void testRestoredGameContinuesIdentically() {
+        GameModel original = newModel();
+        original.setRandomSeed(5);
+        HeadlessRunner first = new HeadlessRunner(original, new ScriptedInput("F..D"), 5);
+        first.run(500);
+
+        GameSnapshot.write(original, buffer);
+        buffer.flip();
+        GameModel restored = newModel();
+        GameSnapshot.restore(buffer, restored);
+
+        for (int tick = 500; tick < 1500; tick++) {
+            for (GameModel model : new GameModel[] {original, restored}) {
+                model.updateGame(tick);
+                model.checkCollisions();
+                model.spawnObjects();
+                model.levelUp();
+            }
+            assertEquals(original.getSpaceObjects().toString(),
+                    restored.getSpaceObjects().toString());
+        }
+    }
+
+    @Test
+    public void testBufferIsReusable() {
+        GameModel model = newModel();
+        model.addObject(new Asteroid(1, 1));
+        int firstSize = GameSnapshot.write(model, buffer);
+        buffer.clear();
+        model.addObject(new Enemy(2, 2));
+        int secondSize = GameSnapshot.write(model, buffer);
+
+        assertEquals(firstSize + 3, secondSize);
+    }
+
+    @Test
+    public void testConcurrentTrackerCountsRoundTrip() {
+        ConcurrentStatsTracker tracker = new ConcurrentStatsTracker(0L);
+        GameModel model = new GameModel(message -> {}, tracker);
+        tracker.restoreCounts(7, 3);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        GameSnapshot.write(model, buffer);
+        GameSnapshot.write(model, buffer);
+
+        ConcurrentStatsTracker restored = new ConcurrentStatsTracker(0L);
+        buffer.flip();
+        GameSnapshot.restore(buffer, new GameModel(message -> {}, restored));
+        assertEquals(7, restored.getShotsFired());
+        assertEquals(3, restored.getShotsHit());
+        GameSnapshot.restore(buffer, new GameModel(message -> {}, restored));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCorruptedSnapshotIsRejected() {
+        GameModel model = newModel();
+        model.addObject(new Bullet(3, 3));
+        GameSnapshot.write(model, buffer);
+        buffer.put(12, (byte) (buffer.get(12) ^ 1));
+        buffer.flip();
+
+        GameSnapshot.restore(buffer, newModel());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownObjectTypeIsRejected() {
+        GameModel model = newModel();
+        model.addObject(new SpaceObject() {
+            public void tick(int tick) {}
+            public int getX() { return 0; }
+            public int getY() { return 0; }
+            public game.ui.ObjectGraphic render() { return null; }
+        });
+        GameSnapshot.write(model, buffer);
+    }
+
+    @Test
+    public void testStatefulRandomMatchesRandom() {
+        java.util.Random expected = new java.util.Random(123);
+        StatefulRandom actual = new StatefulRandom(123);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.nextInt(100), actual.nextInt(100));
+            assertEquals(expected.nextBoolean(), actual.nextBoolean());
+        }
+        long state = actual.getState();
+        int next = actual.nextInt();
+        actual.setState(state);
+        assertEquals(next, actual.nextInt());
+    }
+}
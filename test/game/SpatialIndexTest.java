@@ -0,0 +1,136 @@
+package game;
+
+import game.core.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SpatialIndexTest {
+
+    private SpatialIndex index;
+
+    @Before
+    public void setUp() {
+        index = new SpatialIndex();
+    }
+
+    @Test
+    public void testAddedObjectOccupiesItsCell() {
+        SpaceObject asteroid = new Asteroid(3, 4);
+        index.add(asteroid);
+
+        assertTrue(index.isOccupied(3, 4));
+        assertFalse(index.isOccupied(4, 3));
+        assertEquals(List.of(asteroid), index.objectsAt(3, 4));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testCellKeepsInsertionOrder() {
+        SpaceObject enemy = new Enemy(2, 2);
+        SpaceObject asteroid = new Asteroid(2, 2);
+        index.add(enemy);
+        index.add(asteroid);
+
+        assertEquals("First match must be the first added", List.of(enemy, asteroid),
+                index.objectsAt(2, 2));
+    }
+
+    @Test
+    public void testRemoveByIdentity() {
+        SpaceObject bullet1 = new Bullet(1, 1);
+        SpaceObject bullet2 = new Bullet(1, 1);
+        index.add(bullet1);
+        index.add(bullet2);
+
+        assertTrue(index.remove(bullet1));
+        assertFalse("Already removed", index.remove(bullet1));
+        assertEquals(List.of(bullet2), index.objectsAt(1, 1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testOutOfBoundsObjectsAreIndexed() {
+        SpaceObject bullet = new Bullet(0, -1);
+        index.add(bullet);
+
+        assertTrue(index.isOccupied(0, -1));
+        assertFalse(index.isOccupied(1, -1));
+        assertTrue(index.remove(bullet));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testClearAndRebuild() {
+        List<SpaceObject> objects = new ArrayList<>();
+        objects.add(new Asteroid(0, 0));
+        objects.add(new Enemy(9, 19));
+        index.add(new Bullet(5, 5));
+
+        index.rebuild(objects);
+
+        assertFalse(index.isOccupied(5, 5));
+        assertTrue(index.isOccupied(0, 0));
+        assertTrue(index.isOccupied(9, 19));
+        assertEquals(2, index.size());
+
+        index.clear();
+        assertFalse(index.isOccupied(0, 0));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testMoveKeepsModelOrder() {
+        SpaceObject bullet = new Bullet(4, 5);
+        SpaceObject enemy = new Enemy(4, 4);
+        SpaceObject asteroid = new Asteroid(4, 3);
+        index.add(bullet);
+        index.add(enemy);
+        index.add(asteroid);
+
+        asteroid.tick(0);
+        assertTrue(index.move(asteroid, 4, 3));
+        bullet.tick(0);
+        assertTrue(index.move(bullet, 4, 5));
+
+        assertEquals(List.of(bullet, enemy, asteroid), index.objectsAt(4, 4));
+        assertFalse(index.isOccupied(4, 5));
+        assertFalse(index.isOccupied(4, 3));
+        assertEquals(3, index.size());
+        assertFalse("Not indexed there", index.move(enemy, 0, 0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private int cellsAllocated() throws Exception {
+        Field cells = SpatialIndex.class.getDeclaredField("cells");
+        cells.setAccessible(true);
+        return ((List<Object>) cells.get(index)).size();
+    }
+
+    @Test
+    public void testCellsAreReleasedWhenTheyEmpty() throws Exception {
+        SpaceObject bullet = new Bullet(5, 1999);
+        SpaceObject asteroid = new Asteroid(0, 0);
+        index.add(asteroid);
+        index.add(bullet);
+        while (bullet.getY() > 0) {
+            int fromY = bullet.getY();
+            bullet.tick(0);
+            assertTrue(index.move(bullet, 5, fromY));
+        }
+
+        assertEquals(2, cellsAllocated());
+        assertEquals(List.of(bullet), index.objectsAt(5, 0));
+        assertEquals(List.of(asteroid), index.objectsAt(0, 0));
+        assertFalse(index.isOccupied(5, 1999));
+
+        assertTrue(index.remove(asteroid));
+        assertFalse(index.isOccupied(0, 0));
+        assertEquals(List.of(bullet), index.objectsAt(5, 0));
+    }
+}
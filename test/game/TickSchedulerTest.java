@@ -0,0 +1,124 @@
+package game;
+
+import game.core.*;
+import game.ui.ObjectGraphic;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class TickSchedulerTest {
+
+    private TickScheduler scheduler;
+    private List<SpaceObject> moved;
+
+    @Before
+    public void setUp() {
+        scheduler = new TickScheduler();
+        moved = new ArrayList<>();
+    }
+
+    private int tick(int tick) {
+        return scheduler.tick(tick, (object, fromX, fromY) -> moved.add(object));
+    }
+
+    /**
+     * A stand-in for a new kind of object, acting every third tick.
+     */
+    private static class Drifter extends ObjectWithPosition implements Cadenced {
+        Drifter(int x, int y) {
+            super(x, y);
+        }
+
+        @Override
+        public void tick(int tick) {
+            if (tick % 3 == 0) {
+                x++;
+            }
+        }
+
+        @Override
+        public int getCadence() {
+            return 3;
+        }
+
+        @Override
+        public ObjectGraphic render() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testCadenceOf() {
+        assertEquals(1, TickScheduler.cadenceOf(new Bullet(0, 0)));
+        assertEquals(10, TickScheduler.cadenceOf(new Asteroid(0, 0)));
+        assertEquals(10, TickScheduler.cadenceOf(new Enemy(0, 0)));
+        assertEquals(10, TickScheduler.cadenceOf(new HealthPowerUp(0, 0)));
+        assertEquals(3, TickScheduler.cadenceOf(new Drifter(0, 0)));
+    }
+
+    @Test
+    public void testDescendingObjectsOnlyTickedOnTheirCadence() {
+        for (int i = 0; i < 10; i++) {
+            scheduler.add(new Asteroid(i, 0));
+        }
+        SpaceObject bullet = new Bullet(0, 10);
+        scheduler.add(bullet);
+
+        assertEquals(1, tick(1));
+        assertEquals(List.of(bullet), moved);
+
+        moved.clear();
+        assertEquals(11, tick(10));
+        assertEquals(11, moved.size());
+    }
+
+    @Test
+    public void testNewCadenceNeedsNoChanges() {
+        SpaceObject drifter = new Drifter(0, 0);
+        scheduler.add(drifter);
+
+        assertEquals(0, tick(1));
+        assertEquals(0, tick(2));
+        assertEquals(1, tick(3));
+        assertEquals(1, drifter.getX());
+        assertEquals(List.of(drifter), moved);
+    }
+
+    @Test
+    public void testRemoveAll() {
+        SpaceObject enemy = new Enemy(0, 0);
+        SpaceObject bullet = new Bullet(1, 1);
+        scheduler.add(enemy);
+        scheduler.add(bullet);
+        scheduler.add(new Asteroid(2, 2));
+
+        Set<SpaceObject> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.add(enemy);
+        removed.add(bullet);
+        scheduler.removeAll(removed);
+
+        assertEquals(1, scheduler.size());
+        assertEquals(1, tick(0));
+        assertEquals(0, enemy.getY());
+    }
+
+    @Test
+    public void testRebuildAndClear() {
+        scheduler.add(new Bullet(0, 5));
+        scheduler.rebuild(List.of(new Asteroid(0, 0), new Enemy(1, 0)));
+
+        assertEquals(2, scheduler.size());
+        assertEquals(0, tick(1));
+
+        scheduler.clear();
+        assertEquals(0, scheduler.size());
+        assertEquals(0, tick(0));
+    }
+}
@@ -0,0 +1,148 @@
+package game.achievements;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AchievementEngineTest {
+
+    private List<String> saved;
+    private AchievementManager manager;
+    private AchievementEngine engine;
+    private PlayerStatsTracker tracker;
+
+    private static class ListFile implements AchievementFile {
+        private final List<String> saved;
+
+        ListFile(List<String> saved) {
+            this.saved = saved;
+        }
+
+        public void setFileLocation(String fileLocation) {}
+
+        public String getFileLocation() {
+            return DEFAULT_LOCATION;
+        }
+
+        public void save(String data) {
+            saved.add(data);
+        }
+
+        public List<String> read() {
+            return saved;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        saved = new ArrayList<>();
+        manager = new AchievementManager(new ListFile(saved));
+        engine = new AchievementEngine(manager);
+        tracker = new PlayerStatsTracker(System.currentTimeMillis());
+    }
+
+    private static AchievementDefinition hits(String name, int target) {
+        return new AchievementDefinition(name, "Hit " + target + " enemies.",
+                stats -> stats.getShotsHit() / (double) target, StatCounter.SHOTS_HIT);
+    }
+
+    @Test
+    public void testStandardDefinitionsMatchTheFormulas() {
+        for (AchievementDefinition definition : AchievementDefinition.standard()) {
+            engine.register(definition);
+        }
+        for (int i = 0; i < 12; i++) {
+            tracker.recordShotFired();
+        }
+        for (int i = 0; i < 10; i++) {
+            tracker.recordShotHit();
+        }
+        engine.evaluate(tracker);
+
+        assertEquals(0.5, manager.getAchievement("Enemy Exterminator").getProgress(), 1e-9);
+        assertEquals(Math.min(1.0, (10.0 / 12) / 0.99),
+                manager.getAchievement("Sharp Shooter").getProgress(), 1e-9);
+        assertEquals(0.0, manager.getAchievement("Survivor").getProgress(), 1e-9);
+        assertEquals(3, manager.getAchievements().size());
+    }
+
+    @Test
+    public void testOnlyDependentsOfChangedCountersAreEvaluated() {
+        for (int i = 0; i < 300; i++) {
+            engine.register(hits("Hits " + i, i + 1));
+        }
+        engine.register(new AchievementDefinition("Trigger Happy", "Fire 5 shots.",
+                stats -> stats.getShotsFired() / 5.0, StatCounter.SHOTS_FIRED));
+
+        assertEquals(301, engine.evaluate(tracker));
+        assertEquals(0, engine.evaluate(tracker));
+        tracker.recordShotFired();
+        assertEquals(1, engine.evaluate(tracker));
+        tracker.recordShotHit();
+        assertEquals(300, engine.evaluate(tracker));
+    }
+
+    @Test
+    public void testTierTransitionsAreReportedOnce() {
+        List<String> events = new ArrayList<>();
+        engine.addTierListener((achievement, from, to) ->
+                events.add(achievement.getName() + " " + from + "->" + to));
+        engine.register(hits("Ace", 4));
+        engine.evaluate(tracker);
+
+        for (int i = 0; i < 6; i++) {
+            tracker.recordShotHit();
+            engine.evaluate(tracker);
+        }
+        assertEquals(List.of("Ace NOVICE->EXPERT", "Ace EXPERT->MASTER"), events);
+        assertEquals(List.of("Ace"), saved);
+        assertEquals("Master", manager.getAchievement("Ace").getCurrentTier());
+    }
+
+    @Test
+    public void testRegisterUsesExistingAchievement() {
+        GameAchievement existing = new GameAchievement("Ace", "Already here.");
+        manager.addAchievement(existing);
+        assertSame(existing, engine.register(hits("Ace", 4)));
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    public void testUpdateAchievementOnlySetsProgress() {
+        manager.addAchievement(new GameAchievement("Ace", "Hit enemies."));
+        manager.updateAchievement("Ace", 1.0);
+        manager.updateAchievement("Ace", 1.0);
+        assertTrue("Mastery is not saved by updateAchievement", saved.isEmpty());
+
+        manager.logAchievementMastered();
+        manager.logAchievementMastered();
+        assertEquals(List.of("Ace"), saved);
+    }
+
+    @Test
+    public void testMasteryFollowsTheAchievementsOwnTier() {
+        manager.addAchievement(new GameAchievement("Ace", "Hit enemies.") {
+            @Override
+            public String getCurrentTier() {
+                return getProgress() >= 0.5 ? "Master" : "Novice";
+            }
+        });
+        engine.register(hits("Ace", 4));
+        tracker.recordShotHit();
+        engine.evaluate(tracker);
+        assertTrue(saved.isEmpty());
+
+        tracker.recordShotHit();
+        engine.evaluate(tracker);
+        assertEquals(List.of("Ace"), saved);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDefinitionNeedsCounters() {
+        new AchievementDefinition("Ace", "Hit enemies.", stats -> 0.0);
+    }
+}
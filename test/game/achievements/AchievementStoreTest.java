@@ -0,0 +1,121 @@
+package game.achievements;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class AchievementStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private File index;
+    private AchievementStore store;
+
+    @Before
+    public void setUp() {
+        file = new File(folder.getRoot(), "achievements.store");
+        index = new File(file.getPath() + ".idx");
+        store = open();
+    }
+
+    @After
+    public void tearDown() {
+        store.close();
+    }
+
+    private AchievementStore open() {
+        AchievementStore opened = new AchievementStore();
+        opened.setFileLocation(file.getPath());
+        return opened;
+    }
+
+    @Test
+    public void testPointLookups() {
+        store.put("alice", "Survivor", 0.5);
+        store.put("bob", "Survivor", 0.25);
+        assertEquals(0.5, store.getProgress("alice", "Survivor"), 1e-9);
+        assertEquals(0.25, store.getProgress("bob", "Survivor"), 1e-9);
+        assertEquals(0.0, store.getProgress("carol", "Survivor"), 1e-9);
+        assertTrue(store.contains("bob", "Survivor"));
+        assertFalse(store.contains("bob", "Sharp Shooter"));
+    }
+
+    @Test
+    public void testUpdatesAreMadeInPlace() {
+        store.put("alice", "Survivor", 0.1);
+        store.put("alice", "Sharp Shooter", 0.1);
+        for (int i = 0; i <= 100; i++) {
+            store.put("alice", "Survivor", i / 100.0);
+        }
+        assertEquals(2, store.size());
+        assertEquals(2L * AchievementStore.RECORD_SIZE, file.length());
+        assertEquals(1.0, store.getProgress("alice", "Survivor"), 1e-9);
+    }
+
+    @Test
+    public void testReopenLoadsTheIndex() throws IOException {
+        store.put("alice", "Survivor", 0.5);
+        store.put("bob", "Enemy Exterminator", 1.0);
+        store.close();
+        assertTrue(index.exists());
+
+        // Damage the store file, an up to date index is loaded without reading it
+        Files.write(file.toPath(), new byte[2 * AchievementStore.RECORD_SIZE]);
+        store = open();
+        assertEquals(0.5, store.getProgress("alice", "Survivor"), 1e-9);
+        assertEquals(Map.of("Enemy Exterminator", 1.0), store.getProgress("bob"));
+    }
+
+    @Test
+    public void testStaleIndexIsRebuiltFromTheStoreFile() {
+        store.put("alice", "Survivor", 0.5);
+        store.flush();
+        assertTrue(index.exists());
+        store.put("alice", "Survivor", 0.75);
+        store.put("bob", "Survivor", 1.0);
+        assertFalse(index.exists());
+
+        // Read the store file without closing the first store, as after a crash
+        AchievementStore recovered = open();
+        assertEquals(0.75, recovered.getProgress("alice", "Survivor"), 1e-9);
+        assertEquals(1.0, recovered.getProgress("bob", "Survivor"), 1e-9);
+        assertEquals(2, recovered.size());
+        recovered.close();
+    }
+
+    @Test
+    public void testAchievementFileSavesForTheCurrentPlayer() {
+        AchievementManager manager = new AchievementManager(store);
+        manager.addAchievement(new GameAchievement("Survivor", "Stay alive."));
+        store.setPlayer("alice");
+        manager.updateAchievement("Survivor", 1.0);
+        manager.logAchievementMastered();
+        store.put("alice", "Sharp Shooter", 0.5);
+
+        assertEquals(List.of("Survivor"), store.read());
+        store.setPlayer("bob");
+        assertTrue(store.read().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNameTooLong() {
+        store.put("alice", "x".repeat(AchievementStore.MAX_NAME_BYTES + 1), 1.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoPlayer() {
+        store.setPlayer("");
+    }
+}
@@ -0,0 +1,107 @@
+package game.achievements;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentStatsTrackerTest {
+
+    @Test
+    public void testCountsFromSeveralThreads() throws InterruptedException {
+        ConcurrentStatsTracker tracker = new ConcurrentStatsTracker(0L);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    tracker.recordShotFired();
+                    if (i % 2 == 0) {
+                        tracker.recordShotHit();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40000, tracker.getShotsFired());
+        assertEquals(20000, tracker.getShotsHit());
+        assertEquals(0.5, tracker.getAccuracy(), 1e-9);
+    }
+
+    @Test
+    public void testAccuracyNeverExceedsOneWhileRecording() throws InterruptedException {
+        ConcurrentStatsTracker tracker = new ConcurrentStatsTracker(0L);
+        tracker.recordShotFired();
+        tracker.recordShotHit();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread shooter = new Thread(() -> {
+            while (running.get()) {
+                tracker.recordShotFired();
+                tracker.recordShotHit();
+                Thread.yield();
+            }
+        });
+        shooter.start();
+        try {
+            for (int i = 0; i < 10000; i++) {
+                assertTrue(tracker.getAccuracy() <= 1.0);
+            }
+        } finally {
+            running.set(false);
+            shooter.join();
+        }
+        assertEquals(1.0, tracker.getAccuracy(), 1e-9);
+    }
+
+    @Test
+    public void testAccuracyIsReadFromOneSnapshot() throws InterruptedException {
+        ConcurrentStatsTracker tracker = new ConcurrentStatsTracker(0L);
+        tracker.restoreCounts(4, 4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread loader = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                tracker.restoreCounts(i % 2 == 0 ? 8 : 4, i % 2 == 0 ? 2 : 4);
+                Thread.yield();
+            }
+        });
+        loader.start();
+        try {
+            for (int i = 0; i < 10000; i++) {
+                double accuracy = tracker.getAccuracy();
+                assertTrue("Accuracy " + accuracy, accuracy == 0.25 || accuracy == 1.0);
+                long counts = tracker.getCounts();
+                assertTrue(counts == (8L << 32 | 2) || counts == (4L << 32 | 4));
+            }
+        } finally {
+            running.set(false);
+            loader.join();
+        }
+    }
+
+    @Test
+    public void testRestoreCounts() {
+        ConcurrentStatsTracker tracker = new ConcurrentStatsTracker(0L);
+        tracker.recordShotFired();
+        tracker.restoreCounts(8, 2);
+        assertEquals(8, tracker.getShotsFired());
+        assertEquals(2, tracker.getShotsHit());
+        assertEquals(0.25, tracker.getAccuracy(), 1e-9);
+        assertEquals(8L, StatCounter.SHOTS_FIRED.read(tracker));
+    }
+
+    @Test
+    public void testCountsDoNotCarryIntoEachOther() {
+        ConcurrentStatsTracker tracker = new ConcurrentStatsTracker(0L);
+        tracker.restoreCounts(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        tracker.recordShotHit();
+        assertEquals((long) Integer.MAX_VALUE << 32 | Integer.MAX_VALUE, tracker.getCounts());
+    }
+
+    @Test
+    public void testNoShotsFired() {
+        assertEquals(0.0, new ConcurrentStatsTracker().getAccuracy(), 1e-9);
+    }
+}
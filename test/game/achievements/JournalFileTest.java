@@ -0,0 +1,115 @@
+package game.achievements;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JournalFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private JournalFile journal;
+
+    @Before
+    public void setUp() {
+        file = new File(folder.getRoot(), "achievements.log");
+        journal = new JournalFile();
+        journal.setFileLocation(file.getPath());
+    }
+
+    @After
+    public void tearDown() {
+        journal.close();
+    }
+
+    private List<String> lines() throws IOException {
+        return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testSavesAreAppendedInOrder() throws IOException {
+        journal.save("Survivor");
+        journal.save("Sharp Shooter");
+        assertEquals(List.of("Survivor", "Sharp Shooter"), journal.read());
+        assertEquals(List.of("Survivor", "Sharp Shooter"), lines());
+    }
+
+    @Test
+    public void testExistingEntriesAreKept() throws IOException {
+        Files.write(file.toPath(), List.of("Enemy Exterminator"), StandardCharsets.UTF_8);
+        journal.save("Survivor");
+        journal.close();
+
+        JournalFile reopened = new JournalFile();
+        reopened.setFileLocation(file.getPath());
+        assertEquals(List.of("Enemy Exterminator", "Survivor"), reopened.read());
+        reopened.close();
+    }
+
+    @Test
+    public void testReadWithNothingSaved() {
+        assertTrue(journal.read().isEmpty());
+    }
+
+    @Test
+    public void testCompactionKeepsFirstOfEachEntry() throws IOException {
+        journal = new JournalFile(JournalFile.SyncPolicy.NONE, 1, 4);
+        journal.setFileLocation(file.getPath());
+        for (String name : new String[] {"A", "B", "A", "B"}) {
+            journal.save(name);
+            journal.flush();
+        }
+        journal.save("C");
+        journal.save("A");
+        journal.flush();
+        assertEquals(List.of("A", "B", "C", "A"), lines());
+    }
+
+    @Test
+    public void testIntervalSyncWritesEveryEntry() {
+        journal = new JournalFile(JournalFile.SyncPolicy.INTERVAL, 5, 1000);
+        journal.setFileLocation(file.getPath());
+        for (int i = 0; i < 100; i++) {
+            journal.save("Entry " + i);
+        }
+        journal.close();
+        JournalFile reader = new JournalFile();
+        reader.setFileLocation(file.getPath());
+        assertEquals(100, reader.read().size());
+        assertEquals("Entry 99", reader.read().get(99));
+    }
+
+    @Test
+    public void testSetFileLocationWritesPendingEntriesFirst() throws IOException {
+        File other = new File(folder.getRoot(), "other.log");
+        journal.save("Survivor");
+        journal.setFileLocation(other.getPath());
+        journal.save("Sharp Shooter");
+
+        assertEquals(List.of("Sharp Shooter"), journal.read());
+        assertEquals(List.of("Survivor"), lines());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSaveAfterClose() {
+        journal.close();
+        journal.save("Survivor");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoPolicy() {
+        new JournalFile(null, 1, 1);
+    }
+}
@@ -0,0 +1,113 @@
+package game.achievements;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class MappedLogReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File write(String content) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> read(MappedLogReader reader) {
+        List<String> lines = new ArrayList<>();
+        for (MappedLogReader.Line line : reader) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    @Test
+    public void testLinesAreTrimmedLikeFileHandler() throws IOException {
+        File file = write("Survivor\r\n  Sharp Shooter \n\nEnemy Exterminator");
+        try (MappedLogReader reader = new MappedLogReader(file.getPath())) {
+            assertEquals(List.of("Survivor", "Sharp Shooter", "", "Enemy Exterminator"),
+                    read(reader));
+        }
+        FileHandler handler = new FileHandler();
+        handler.setFileLocation(file.getPath());
+        assertEquals(List.of("Survivor", "Sharp Shooter", "", "Enemy Exterminator"),
+                handler.read());
+    }
+
+    @Test
+    public void testLineTerminatorsMatchFileHandler() throws IOException {
+        String content = "Survivor\rSharp Shooter\r\n\r\rEnemy\n\r\nLast\r";
+        File file = write(content);
+        FileHandler handler = new FileHandler();
+        handler.setFileLocation(file.getPath());
+        List<String> expected = handler.read();
+        assertEquals(List.of("Survivor", "Sharp Shooter", "", "", "Enemy", "", "Last"), expected);
+        // Small segments split "\r\n" terminators across windows
+        for (int segment = 14; segment <= content.length(); segment++) {
+            try (MappedLogReader reader = new MappedLogReader(file.toPath(), segment)) {
+                assertEquals("Segment size " + segment, expected, read(reader));
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        try (MappedLogReader reader = new MappedLogReader(write("").getPath())) {
+            assertFalse(reader.iterator().hasNext());
+        }
+    }
+
+    @Test
+    public void testLinesAcrossSegments() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String line = "Entry " + i + " é";
+            expected.add(line);
+            content.append(line).append('\n');
+        }
+        File file = write(content.toString());
+        try (MappedLogReader reader = new MappedLogReader(file.toPath(), 32)) {
+            assertEquals(expected, read(reader));
+        }
+    }
+
+    @Test
+    public void testStreamFiltersWithoutDecodingSkippedLines() throws IOException {
+        File file = write("Survivor\nSharp Shooter\nSurvivor\nEnemy Exterminator\n");
+        byte[] survivor = "Survivor".getBytes(StandardCharsets.UTF_8);
+        try (MappedLogReader reader = new MappedLogReader(file.getPath())) {
+            List<Long> numbers = reader.lines()
+                    .filter(line -> line.regionMatches(survivor, true))
+                    .map(MappedLogReader.Line::getNumber)
+                    .collect(Collectors.toList());
+            assertEquals(List.of(1L, 3L), numbers);
+        }
+        try (MappedLogReader reader = new MappedLogReader(file.getPath())) {
+            assertEquals(List.of("Sharp Shooter"), reader.lines()
+                    .filter(line -> line.startsWith("Sh"))
+                    .map(MappedLogReader.Line::toString)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLineLongerThanSegment() throws IOException {
+        File file = write("A line that does not fit\nshort\n");
+        try (MappedLogReader reader = new MappedLogReader(file.toPath(), 8)) {
+            read(reader);
+        }
+    }
+}
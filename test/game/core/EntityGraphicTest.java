@@ -0,0 +1,38 @@
+package game.core;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class EntityGraphicTest {
+
+    @Test
+    public void testRenderSharesOneGraphicPerKind() {
+        assertSame(new Asteroid(0, 0).render(), new Asteroid(3, 4).render());
+        assertSame(EntityGraphic.SHIP.getGraphic(), new Ship().render());
+        assertSame(EntityGraphic.BULLET.getGraphic(), new Bullet(1, 1).render());
+        assertSame(EntityGraphic.ENEMY.getGraphic(), new Enemy(1, 1).render());
+        assertSame(EntityGraphic.HEALTH_POWER_UP.getGraphic(), new HealthPowerUp(1, 1).render());
+        assertSame(EntityGraphic.SHIELD_POWER_UP.getGraphic(), new ShieldPowerUp(1, 1).render());
+    }
+
+    @Test
+    public void testLookupByIdentity() {
+        for (EntityGraphic graphic : EntityGraphic.values()) {
+            assertSame(graphic, EntityGraphic.of(graphic.getGraphic()));
+        }
+        assertNull(EntityGraphic.of(new game.ui.ObjectGraphic("🌑", "assets/asteroid.png")));
+    }
+
+    @Test
+    public void testDistinctImages() {
+        Set<String> paths = new HashSet<>();
+        for (EntityGraphic graphic : EntityGraphic.values()) {
+            assertTrue(paths.add(graphic.getImagePath()));
+        }
+        assertEquals("🌑", EntityGraphic.ASTEROID.getText());
+    }
+}
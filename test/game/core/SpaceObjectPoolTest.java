@@ -0,0 +1,101 @@
+package game.core;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SpaceObjectPoolTest {
+
+    private SpaceObjectPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new SpaceObjectPool(4);
+    }
+
+    @Test
+    public void testReleasedObjectIsRecycled() {
+        Bullet bullet = pool.bullet(1, 2);
+        assertTrue(pool.release(bullet));
+
+        Bullet recycled = pool.bullet(3, 4);
+        assertSame(bullet, recycled);
+        assertEquals(3, recycled.getX());
+        assertEquals(4, recycled.getY());
+    }
+
+    @Test
+    public void testDoubleReleaseIsIgnored() {
+        Enemy enemy = pool.enemy(0, 0);
+        assertTrue(pool.release(enemy));
+        assertFalse(pool.release(enemy));
+
+        assertNotSame("Must not be handed out twice", pool.enemy(0, 0), pool.enemy(0, 0));
+    }
+
+    @Test
+    public void testUnpooledObjectsAreIgnored() {
+        assertFalse(pool.release(new Asteroid(0, 0)));
+        assertFalse(pool.release(new ShieldPowerUp(0, 0) { }));
+        assertEquals(0, pool.getStatistics().get(1).getFree());
+    }
+
+    @Test
+    public void testObjectsFromAnotherPoolAreIgnored() {
+        SpaceObjectPool other = new SpaceObjectPool(4);
+        Bullet bullet = other.bullet(0, 0);
+        assertFalse(pool.release(bullet));
+        assertEquals(0, pool.getStatistics().get(0).getInUse());
+        assertEquals(0, pool.getStatistics().get(0).getFree());
+
+        assertTrue("Still releasable to its own pool", other.release(bullet));
+        assertEquals(0, other.getStatistics().get(0).getInUse());
+    }
+
+    @Test
+    public void testStatistics() {
+        HealthPowerUp first = pool.healthPowerUp(0, 0);
+        HealthPowerUp second = pool.healthPowerUp(0, 0);
+        pool.release(first);
+        pool.healthPowerUp(0, 0);
+
+        PoolStatistics stats = pool.getStatistics().get(3);
+        assertEquals("HealthPowerUp", stats.getName());
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getInUse());
+        assertEquals(2, stats.getHighWaterMark());
+        assertEquals(0, stats.getFree());
+        assertNotNull(second);
+    }
+
+    @Test
+    public void testZeroCapacityNeverRetains() {
+        SpaceObjectPool unpooled = new SpaceObjectPool(0);
+        Bullet bullet = unpooled.bullet(0, 0);
+        unpooled.release(bullet);
+
+        assertNotSame(bullet, unpooled.bullet(0, 0));
+        assertEquals(2, unpooled.getStatistics().get(0).getMisses());
+    }
+
+    @Test
+    public void testGameModelRecyclesBulletsLeavingTheBoard() {
+        GameModel model = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+        model.setObjectPool(pool);
+        model.fireBullet();
+        Bullet bullet = (Bullet) model.getSpaceObjects().get(0);
+
+        for (int tick = 1; tick <= GameModel.GAME_HEIGHT; tick++) {
+            model.updateGame(tick);
+        }
+        assertTrue(model.getSpaceObjects().isEmpty());
+
+        model.fireBullet();
+        assertSame(bullet, model.getSpaceObjects().get(0));
+        assertEquals(1, pool.getStatistics().get(0).getHits());
+    }
+}
@@ -0,0 +1,226 @@
+package game.events;
+
+import game.EntityStore;
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameEventBusTest {
+
+    private GameEventBus bus;
+    private List<String> received;
+
+    @Before
+    public void setUp() {
+        bus = new GameEventBus(4);
+        received = new ArrayList<>();
+    }
+
+    private void publish(GameEventType type, int x) {
+        bus.publish(type, EntityStore.BULLET, x, 0, 0, 0);
+    }
+
+    @Test
+    public void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(8, new GameEventBus(5).getCapacity());
+        assertEquals(1, new GameEventBus(1).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroCapacity() {
+        new GameEventBus(0);
+    }
+
+    @Test
+    public void testDrainInPublishOrder() {
+        GameEventBus.Subscription subscription = bus.subscribe();
+        publish(GameEventType.SHOT_FIRED, 1);
+        publish(GameEventType.SHOT_HIT, 2);
+
+        assertEquals(2, subscription.pending());
+        assertEquals(2, subscription.drain(event -> received.add(event.toString())));
+        assertEquals(List.of("SHOT_FIRED(1, 0)", "SHOT_HIT(2, 0)"), received);
+        assertEquals(0, subscription.drain(event -> fail("Already drained")));
+    }
+
+    @Test
+    public void testSlotsAreReusedAfterEverySubscriberDrains() {
+        GameEventBus.Subscription first = bus.subscribe();
+        GameEventBus.Subscription second = bus.subscribe();
+        List<Long> sequences = new ArrayList<>();
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 4; i++) {
+                publish(GameEventType.SPAWN, i);
+            }
+            first.drain(event -> sequences.add(event.getSequence()));
+            second.drain(event -> { });
+        }
+
+        assertEquals(20, sequences.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, (long) sequences.get(i));
+        }
+    }
+
+    @Test
+    public void testConsumerOnOwnThread() throws InterruptedException {
+        GameEventBus.Subscription subscription = bus.subscribe();
+        int events = 100_000;
+        long[] sum = new long[1];
+        Thread consumer = new Thread(() -> {
+            int drained = 0;
+            while (drained < events) {
+                int count = subscription.drain(event -> sum[0] += event.getX());
+                if (count == 0) {
+                    Thread.yield();
+                }
+                drained += count;
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < events; i++) {
+            while (!bus.publish(GameEventType.SHOT_FIRED, EntityStore.BULLET, i, 0, 0, 0)) {
+                Thread.yield(); // Let the consumer catch up
+            }
+        }
+        consumer.join(10_000);
+
+        assertFalse(consumer.isAlive());
+        assertEquals((long) events * (events - 1) / 2, sum[0]);
+    }
+
+    @Test
+    public void testFullBusDropsInsteadOfWaiting() {
+        GameEventBus.Subscription subscription = bus.subscribe();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(bus.publish(GameEventType.SPAWN, EntityStore.ASTEROID, i, 0, 0, 0));
+        }
+        assertFalse(bus.publish(GameEventType.SPAWN, EntityStore.ASTEROID, 4, 0, 0, 0));
+        assertFalse(bus.publish(GameEventType.SPAWN, EntityStore.ASTEROID, 5, 0, 0, 0));
+        assertEquals(2, bus.getDropped());
+
+        assertEquals(4, subscription.drain(event -> received.add(event.toString())));
+        assertTrue(bus.publish(GameEventType.SPAWN, EntityStore.ASTEROID, 6, 0, 0, 0));
+        subscription.drain(event -> received.add(event.toString()));
+        assertEquals(List.of("SPAWN(0, 0)", "SPAWN(1, 0)", "SPAWN(2, 0)", "SPAWN(3, 0)",
+                "SPAWN(6, 0)"), received);
+    }
+
+    @Test
+    public void testSeveralProducers() throws InterruptedException {
+        GameEventBus.Subscription subscription = bus.subscribe();
+        int producers = 3;
+        int events = 20_000;
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        boolean[] ordered = {true};
+        Thread consumer = new Thread(() -> {
+            int drained = 0;
+            while (drained < producers * events) {
+                int count = subscription.drain(event -> {
+                    ordered[0] &= event.getX() == last[event.getY()] + 1;
+                    last[event.getY()] = event.getX();
+                });
+                if (count == 0) {
+                    Thread.yield();
+                }
+                drained += count;
+            }
+        });
+        consumer.start();
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < events; i++) {
+                    while (!bus.publish(GameEventType.SHOT_FIRED, EntityStore.BULLET, i,
+                            producer, 0, 0)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+        consumer.join(10_000);
+
+        assertFalse(consumer.isAlive());
+        assertTrue("Each producer's events arrive in order", ordered[0]);
+        for (int p = 0; p < producers; p++) {
+            assertEquals(events - 1, last[p]);
+        }
+    }
+
+    @Test
+    public void testModelHandlesDroppedShotHitInline() {
+        PlayerStatsTracker tracker = new PlayerStatsTracker(0L);
+        GameModel model = new GameModel(message -> { }, tracker);
+        GameEventBus modelBus = new GameEventBus(1);
+        GameEventBus.Subscription stats = modelBus.subscribe();
+        model.setEventBus(modelBus);
+
+        model.addObject(new Bullet(1, 1));
+        model.addObject(new Enemy(1, 1));
+        model.addObject(new Bullet(3, 3));
+        model.addObject(new Enemy(3, 3));
+        model.checkCollisions();
+
+        assertEquals(1, modelBus.getDropped());
+        assertEquals("The dropped hit is recorded inline", 1, tracker.getShotsHit());
+        stats.drain(new GameEventStats(tracker));
+        assertEquals(2, tracker.getShotsHit());
+    }
+
+    @Test
+    public void testModelPublishesInsteadOfRunningInline() {
+        List<String> logs = new ArrayList<>();
+        PlayerStatsTracker tracker = new PlayerStatsTracker(0L);
+        GameModel model = new GameModel(logs::add, tracker);
+        model.setVerbose(true);
+        GameEventBus modelBus = new GameEventBus(64);
+        GameEventBus.Subscription stats = modelBus.subscribe();
+        GameEventBus.Subscription log = modelBus.subscribe();
+        model.setEventBus(modelBus);
+
+        Ship ship = model.getShip();
+        model.addObject(new Asteroid(ship.getX(), ship.getY()));
+        model.addObject(new Bullet(1, 1));
+        model.addObject(new Enemy(1, 1));
+        model.fireBullet();
+        model.checkCollisions();
+        ship.addScore(GameModel.SCORE_THRESHOLD);
+        model.levelUp();
+
+        assertTrue("Nothing is logged inline", logs.isEmpty());
+        assertEquals("Hits are not recorded inline", 0, tracker.getShotsHit());
+        assertEquals(90, ship.getHealth());
+
+        stats.drain(new GameEventStats(tracker));
+        log.drain(new GameEventLog(logs::add, model::isVerbose));
+
+        assertEquals(1, tracker.getShotsHit());
+        assertEquals(List.of("Hit by asteroid! Health reduced by 10.",
+                "Level Up! Welcome to Level 2. Spawn rate increased to 7%."), logs);
+    }
+
+    @Test
+    public void testLogHandlerRespectsVerbose() {
+        GameEventBus.Subscription subscription = bus.subscribe();
+        bus.publish(GameEventType.COLLISION, EntityStore.ENEMY, 0, 0, 20, 0);
+        List<String> logs = new ArrayList<>();
+
+        subscription.drain(new GameEventLog(logs::add, () -> false));
+
+        assertTrue(logs.isEmpty());
+    }
+}
@@ -0,0 +1,150 @@
+package game.logging;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import game.core.Asteroid;
+import game.core.HealthPowerUp;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class AsyncLogTest {
+
+    private List<String> logs;
+    private long now;
+    private AsyncLog log;
+
+    @Before
+    public void setUp() {
+        logs = new ArrayList<>();
+        now = 0;
+        log = new AsyncLog(logs::add, 4, 3, () -> now);
+    }
+
+    @Test
+    public void testTemplatesMatchInlineMessages() {
+        assertEquals("Hit by asteroid! Health reduced by 10.",
+                LogMessage.ASTEROID_HIT.format(10));
+        assertEquals("Level Up! Welcome to Level 2. Spawn rate increased to 7%.",
+                LogMessage.LEVEL_UP.format(2, 7));
+        assertEquals("Survivor progress: " + String.format("%.2f", 0.125),
+                LogMessage.SURVIVOR_PROGRESS.format(0.125));
+        assertEquals(2, LogMessage.SHIP_MOVED.getArity());
+        assertEquals(LogMessage.Argument.OBJECT, LogMessage.POWER_UP_COLLECTED.getArgument(0));
+    }
+
+    @Test
+    public void testFormatMatchesStringFormat() {
+        Locale previous = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            for (Locale locale : List.of(Locale.UK, Locale.GERMANY)) {
+                Locale.setDefault(Locale.Category.FORMAT, locale);
+                for (double value : new double[] {0.0, -0.0, 0.125, 0.5, 0.995, 0.999, 1.0,
+                        1.005, 2.675, -0.001, 1e-4, 123456.785, 3e9}) {
+                    assertEquals("Survivor progress: " + String.format("%.2f", value),
+                            LogMessage.SURVIVOR_PROGRESS.format(value));
+                }
+                assertEquals("Ship moved to (" + String.format("%d", -3) + ", 4)",
+                        LogMessage.SHIP_MOVED.format(-3, 4));
+            }
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, previous);
+        }
+        assertEquals("Power-up collected: null", LogMessage.POWER_UP_COLLECTED.format(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatWithWrongArguments() {
+        LogMessage.SHIP_MOVED.format(3);
+    }
+
+    @Test
+    public void testFormatsOnlyWhenDrained() {
+        log.log(LogMessage.SHIP_MOVED, 3, 4);
+        log.log(LogMessage.SURVIVOR_PROGRESS, 0.5);
+        log.log(LogMessage.POWER_UP_COLLECTED, new HealthPowerUp(0, 0).render());
+        assertTrue(logs.isEmpty());
+        assertEquals(3, log.pending());
+
+        assertEquals(3, log.drain());
+        assertEquals(List.of("Ship moved to (3, 4)",
+                "Survivor progress: " + String.format("%.2f", 0.5),
+                "Power-up collected: " + new HealthPowerUp(0, 0).render()), logs);
+        assertEquals(0, log.pending());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongArguments() {
+        log.log(LogMessage.SHIP_MOVED, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroCapacity() {
+        new AsyncLog(logs::add, 0, 1);
+    }
+
+    @Test
+    public void testFullQueueDropsNewMessages() {
+        log = new AsyncLog(logs::add, 2, 100, () -> now);
+        for (int i = 0; i < 5; i++) {
+            log.log(LogMessage.ASTEROID_HIT, i);
+        }
+        assertEquals(2, log.drain());
+        assertEquals(3, log.getDropped());
+        assertEquals(List.of("Hit by asteroid! Health reduced by 0.",
+                "Hit by asteroid! Health reduced by 1."), logs);
+
+        log.close();
+        assertEquals("3 log messages dropped.", logs.get(2));
+    }
+
+    @Test
+    public void testRateLimitPerSecond() {
+        for (int i = 0; i < 4; i++) {
+            log.log(LogMessage.ENEMY_HIT, i);
+        }
+        assertEquals(3, log.drain());
+        assertEquals(1, log.getDropped());
+        assertEquals(3, logs.size());
+
+        now += 1_000_000_000L;
+        log.log(LogMessage.ENEMY_HIT, 9);
+        assertEquals(1, log.drain());
+        assertEquals(List.of("1 log messages dropped.", "Hit by enemy! Health reduced by 9."),
+                logs.subList(3, 5));
+    }
+
+    @Test
+    public void testBackgroundThreadDrains() throws InterruptedException {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        AsyncLog background = new AsyncLog(received::add, 16, 1000);
+        background.start();
+        background.log(LogMessage.LEVEL_UP, 2, 7);
+        for (int wait = 0; wait < 500 && received.isEmpty(); wait++) {
+            Thread.sleep(AsyncLog.FLUSH_INTERVAL_MILLIS);
+        }
+        background.close();
+        assertEquals(List.of("Level Up! Welcome to Level 2. Spawn rate increased to 7%."),
+                received);
+    }
+
+    @Test
+    public void testModelQueuesVerboseMessages() {
+        List<String> inline = new ArrayList<>();
+        GameModel model = new GameModel(inline::add, new PlayerStatsTracker(0L));
+        model.setVerbose(true);
+        model.setAsyncLog(log);
+        model.addObject(new Asteroid(model.getShip().getX(), model.getShip().getY()));
+        model.checkCollisions();
+
+        assertTrue(inline.isEmpty());
+        assertEquals(1, log.drain());
+        assertEquals(List.of("Hit by asteroid! Health reduced by 10."), logs);
+    }
+}
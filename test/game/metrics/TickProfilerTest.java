@@ -0,0 +1,82 @@
+package game.metrics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TickProfilerTest {
+
+    private long now;
+    private TickProfiler profiler;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        profiler = new TickProfiler(1_000_000, () -> now);
+    }
+
+    private void tick(long update, long collisions, long render) {
+        profiler.beginTick();
+        now += update;
+        profiler.lap(TickPhase.UPDATE_GAME);
+        now += collisions;
+        profiler.lap(TickPhase.CHECK_COLLISIONS);
+        now += render;
+        profiler.lap(TickPhase.RENDER_GAME);
+        profiler.endTick();
+    }
+
+    @Test
+    public void testEachPhaseIsTimedSeparately() {
+        for (int i = 0; i < 100; i++) {
+            tick(10, 20 + i, 5);
+        }
+        assertEquals(100, profiler.getTicks());
+        assertEquals(100, profiler.snapshot(TickPhase.UPDATE_GAME).getCount());
+        assertEquals(10, profiler.snapshot(TickPhase.UPDATE_GAME).getMax());
+        assertEquals(119, profiler.snapshot(TickPhase.CHECK_COLLISIONS).getMax());
+        assertEquals(0, profiler.snapshot(TickPhase.SPAWN_OBJECTS).getCount());
+        assertEquals(134, profiler.snapshot(TickPhase.TOTAL).getMax());
+    }
+
+    @Test
+    public void testOverrunsAreCounted() {
+        tick(10, 10, 10);
+        tick(10, 2_000_000, 10);
+        tick(500_000, 500_000, 1);
+        assertEquals(3, profiler.getTicks());
+        assertEquals(2, profiler.getOverruns());
+        assertTrue(profiler.report().contains("Overruns: 2 of 3 ticks"));
+    }
+
+    @Test
+    public void testSnapshotIsACopy() {
+        tick(10, 10, 10);
+        Histogram snapshot = profiler.snapshot(TickPhase.TOTAL);
+        tick(10, 10, 10);
+        assertEquals(1, snapshot.getCount());
+        profiler.reset();
+        assertEquals(0, profiler.getTicks());
+    }
+
+    @Test
+    public void testReportIsDumpedEachInterval() {
+        List<String> dumps = new ArrayList<>();
+        profiler.setDump(dumps::add, 1);
+        for (int i = 0; i < 10; i++) {
+            tick(100_000, 100_000, 100_000); // 0.3 ms per tick
+        }
+        assertEquals(2, dumps.size());
+        assertTrue(dumps.get(0).contains("RENDER_GAME"));
+        assertFalse(dumps.get(0).contains("LEVEL_UP"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoBudget() {
+        new TickProfiler(0);
+    }
+}
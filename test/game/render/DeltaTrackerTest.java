@@ -0,0 +1,152 @@
+package game.render;
+
+import game.GameController;
+import game.GameModel;
+import game.achievements.Achievement;
+import game.achievements.AchievementFile;
+import game.achievements.AchievementManager;
+import game.achievements.PlayerStatsTracker;
+import game.core.*;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DeltaTrackerTest {
+
+    private DeltaTracker tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new DeltaTracker();
+    }
+
+    private RenderDelta frame(SpaceObject... objects) {
+        tracker.beginFrame();
+        for (SpaceObject object : objects) {
+            tracker.track(object);
+        }
+        return tracker.endFrame();
+    }
+
+    private static List<Integer> ids(List<RenderedEntity> entities) {
+        List<Integer> ids = new ArrayList<>();
+        for (RenderedEntity entity : entities) {
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void testFirstFrameSpawnsEverything() {
+        Asteroid asteroid = new Asteroid(1, 2);
+        Bullet bullet = new Bullet(3, 4);
+        RenderDelta delta = frame(asteroid, bullet, asteroid);
+
+        assertEquals(List.of(0, 1), ids(delta.getSpawned()));
+        assertSame(asteroid, delta.getSpawned().get(0).getObject());
+        assertTrue(delta.getMoved().isEmpty());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertEquals(2, tracker.size());
+    }
+
+    @Test
+    public void testUnchangedFrameIsEmpty() {
+        Asteroid asteroid = new Asteroid(1, 2);
+        frame(asteroid);
+        assertTrue(frame(asteroid).isEmpty());
+    }
+
+    @Test
+    public void testMovedAndRemovedKeepTheirIds() {
+        Bullet bullet = new Bullet(3, 4);
+        Asteroid asteroid = new Asteroid(1, 2);
+        frame(bullet, asteroid);
+
+        bullet.tick(1);
+        RenderDelta delta = frame(bullet);
+        assertEquals(List.of(0), ids(delta.getMoved()));
+        RenderedEntity moved = delta.getMoved().get(0);
+        assertEquals(4, moved.getPreviousY());
+        assertEquals(3, moved.getY());
+        assertEquals(List.of(1), ids(delta.getRemoved()));
+        assertEquals(2, delta.getRemoved().get(0).getY());
+        assertTrue(delta.getSpawned().isEmpty());
+        assertEquals(1, tracker.size());
+    }
+
+    @Test
+    public void testRecycledObjectIsANewEntity() {
+        SpaceObjectPool pool = new SpaceObjectPool();
+        Bullet bullet = pool.bullet(3, 4);
+        frame(bullet);
+
+        pool.release(bullet);
+        Bullet recycled = pool.bullet(3, 4);
+        assertSame(bullet, recycled);
+        RenderDelta delta = frame(recycled);
+        assertEquals(List.of(0), ids(delta.getRemoved()));
+        assertEquals(List.of(1), ids(delta.getSpawned()));
+        assertTrue(delta.getMoved().isEmpty());
+    }
+
+    private static class DeltaUI implements UI, DeltaRenderer {
+        final List<String> frames = new ArrayList<>();
+        int fullRenders = 0;
+
+        public void renderDelta(RenderDelta delta) {
+            frames.add(delta.getSpawned().size() + " " + delta.getMoved().size() + " "
+                    + delta.getRemoved().size());
+        }
+
+        public void render(List objects) {
+            fullRenders++;
+        }
+
+        public void start() {}
+        public void pause() {}
+        public void stop() {}
+        public void onStep(Tickable t) {}
+        public void onKey(KeyHandler k) {}
+        public void log(String message) {}
+        public void setStat(String label, String value) {}
+        public void logAchievementMastered(String message) {}
+        public void logAchievements(List<Achievement> achievements) {}
+        public void setAchievementProgressStat(String name, double progress) {}
+    }
+
+    private static class NoFile implements AchievementFile {
+        public void setFileLocation(String fileLocation) {}
+        public String getFileLocation() {
+            return "";
+        }
+        public void save(String data) {}
+        public List<String> read() {
+            return List.of();
+        }
+    }
+
+    @Test
+    public void testControllerSendsDeltasToDeltaRenderers() throws Exception {
+        DeltaUI ui = new DeltaUI();
+        GameModel model = new GameModel(message -> {}, new PlayerStatsTracker(0L));
+        GameController controller = new GameController(ui, model,
+                new AchievementManager(new NoFile()));
+        model.addObject(new Asteroid(2, 2));
+
+        controller.renderGame(); // Spawns the asteroid and the ship
+        controller.renderGame(); // Nothing changed
+        model.getShip().move(game.utility.Direction.LEFT);
+        model.getSpaceObjects().clear();
+        controller.renderGame();
+
+        assertEquals(List.of("2 0 0", "0 1 1"), ui.frames);
+        assertEquals(0, ui.fullRenders);
+    }
+}
@@ -0,0 +1,125 @@
+package game.render;
+
+import game.achievements.Achievement;
+import game.ui.KeyHandler;
+import game.ui.Tickable;
+import game.ui.UI;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class StatBoardTest {
+
+    private StatBoard board;
+    private StatUI ui;
+
+    private static class StatUI implements UI {
+        final List<String> stats = new ArrayList<>();
+
+        public void setStat(String label, String value) {
+            stats.add(label + "=" + value);
+        }
+
+        public void start() {}
+        public void pause() {}
+        public void stop() {}
+        public void onStep(Tickable t) {}
+        public void onKey(KeyHandler k) {}
+        public void render(List objects) {}
+        public void log(String message) {}
+        public void logAchievementMastered(String message) {}
+        public void logAchievements(List<Achievement> achievements) {}
+        public void setAchievementProgressStat(String name, double progress) {}
+    }
+
+    private static class BatchUI extends StatUI implements StatRenderer {
+        final List<Integer> batches = new ArrayList<>();
+
+        public void renderStats(List<StatBoard.Stat> changed) {
+            batches.add(changed.size());
+            for (StatBoard.Stat stat : changed) {
+                stats.add(stat.getLabel() + "=" + stat);
+            }
+        }
+    }
+
+    @Before
+    public void setUp() {
+        board = new StatBoard();
+        ui = new StatUI();
+    }
+
+    @Test
+    public void testWholeNumbers() {
+        StatBoard.Stat stat = board.add("Score");
+        for (long value : new long[] {0, 7, -12, 100, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            stat.set(value);
+            assertEquals(Long.toString(value), stat.toString());
+        }
+        StatBoard.Stat time = board.add("Time Survived", " seconds");
+        time.set(42);
+        assertEquals("42 seconds", time.toString());
+        assertEquals(10, time.length());
+        assertEquals('s', time.charAt(3));
+    }
+
+    @Test
+    public void testDecimalsMatchStringFormat() {
+        StatBoard.Stat stat = board.add("Survivor");
+        Random random = new Random(1);
+        List<Double> values = new ArrayList<>(List.of(0.0, 1.0, 0.145, 0.285, 0.005, 0.995,
+                0.08499999999999999, 0.8049999999999999, 12.345));
+        for (int i = 0; i <= 1000; i++) {
+            values.add(i / 1000.0);
+            values.add(random.nextDouble());
+        }
+        for (int shots = 11; shots < 200; shots++) {
+            for (int hits = 0; hits <= 20; hits++) {
+                values.add(Math.min(1.0, (double) hits / shots / 0.99));
+            }
+        }
+        for (double value : values) {
+            stat.set(value);
+            assertEquals(String.valueOf(value), String.format("%.2f", value), stat.toString());
+        }
+    }
+
+    @Test
+    public void testOnlyChangedStatsArePublished() {
+        StatBoard.Stat score = board.add("Score");
+        StatBoard.Stat survivor = board.add("Survivor");
+        score.set(10);
+        survivor.set(0.101);
+        board.publish(ui);
+        assertEquals(List.of("Score=10", "Survivor=" + String.format("%.2f", 0.10)), ui.stats);
+
+        score.set(10);
+        survivor.set(0.104); // Still shows 0.10
+        assertTrue(board.getChanged().isEmpty());
+        board.publish(ui);
+        assertEquals(2, ui.stats.size());
+
+        score.set(20);
+        score.set(30);
+        assertEquals(1, board.getChanged().size());
+        board.publish(ui);
+        assertEquals("Score=30", ui.stats.get(2));
+    }
+
+    @Test
+    public void testStatRendererGetsOneBatchPerPublish() {
+        BatchUI batchUI = new BatchUI();
+        board.add("Score").set(1);
+        board.add("Health").set(100);
+        board.publish(batchUI);
+        board.publish(batchUI);
+
+        assertEquals(List.of(2), batchUI.batches);
+        assertEquals(List.of("Score=1", "Health=100"), batchUI.stats);
+    }
+}
@@ -0,0 +1,149 @@
+package game.replay;
+
+import game.GameController;
+import game.GameModel;
+import game.achievements.AchievementFile;
+import game.achievements.AchievementManager;
+import game.achievements.GameAchievement;
+import game.achievements.PlayerStatsTracker;
+import game.exceptions.BoundaryExceededException;
+import game.simulation.SimulationResult;
+import game.ui.UI;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ReplayTest {
+
+    private static class TestUI implements UI {
+        public void start() {}
+        public void pause() {}
+        public void stop() {}
+        public void onStep(game.ui.Tickable tickable) {}
+        public void onKey(game.ui.KeyHandler key) {}
+        public void render(List<game.core.SpaceObject> objects) {}
+        public void log(String message) {}
+        public void setStat(String label, String value) {}
+        public void logAchievementMastered(String message) {}
+        public void logAchievements(List<game.achievements.Achievement> achievements) {}
+        public void setAchievementProgressStat(String name, double progress) {}
+    }
+
+    private static class MemoryFile implements AchievementFile {
+        private final List<String> lines = new ArrayList<>();
+        public void setFileLocation(String fileLocation) {}
+        public String getFileLocation() { return DEFAULT_LOCATION; }
+        public void save(String data) { lines.add(data); }
+        public List<String> read() { return lines; }
+    }
+
+    private static AchievementManager achievementManager() {
+        AchievementManager manager = new AchievementManager(new MemoryFile());
+        manager.addAchievement(new GameAchievement("Survivor", "Survive"));
+        manager.addAchievement(new GameAchievement("Enemy Exterminator", "Destroy"));
+        manager.addAchievement(new GameAchievement("Sharp Shooter", "Aim"));
+        return manager;
+    }
+
+    @Test
+    public void testPlaybackMatchesRecordedSession() throws IOException {
+        GameModel recorded = new GameModel(message -> {}, new PlayerStatsTracker());
+        GameController controller = new GameController(new TestUI(), recorded,
+                achievementManager());
+        controller.startRecording(77);
+
+        String keys = "WASDFFFFPP";
+        Random player = new Random(5);
+        for (int tick = 1; tick <= 400; tick++) {
+            if (player.nextInt(3) == 0) {
+                try {
+                    controller.handlePlayerInput(String.valueOf(keys.charAt(player.nextInt(keys.length()))));
+                } catch (BoundaryExceededException ignored) {
+                    // the ship stays at the edge
+                }
+            }
+            controller.onTick(tick);
+            assertFalse("The recorded ship should survive this session", recorded.checkGameOver());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        controller.getRecording().write(bytes);
+        Replay replay = Replay.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(controller.getRecording(), replay);
+        assertTrue("Replay should be compact", bytes.size() < 20 + 3 * replay.getCommandCount());
+
+        ReplayPlayer replayPlayer = new ReplayPlayer(replay);
+        SimulationResult result = replayPlayer.play();
+        GameModel played = replayPlayer.getModel();
+
+        assertEquals(400, result.getTicks());
+        assertEquals(recorded.getSpaceObjects().toString(), played.getSpaceObjects().toString());
+        assertEquals(recorded.getShip().toString(), played.getShip().toString());
+        assertEquals(recorded.getShip().getHealth(), played.getShip().getHealth());
+        assertEquals(recorded.getShip().getScore(), played.getShip().getScore());
+        assertEquals(recorded.getLevel(), played.getLevel());
+        assertEquals(recorded.getStatsTracker().getShotsFired(), result.getShotsFired());
+        assertEquals(recorded.getStatsTracker().getShotsHit(), result.getShotsHit());
+    }
+
+    @Test
+    public void testRecorderIgnoresNonModelCommands() {
+        ReplayRecorder recorder = new ReplayRecorder(1, 10, 20);
+        recorder.recordCommand("P");
+        recorder.recordCommand("F");
+        recorder.recordTick(10);
+        recorder.recordTick(11);
+        recorder.recordCommand("X");
+        recorder.recordCommand("W");
+
+        Replay replay = recorder.toReplay();
+        assertEquals(2, replay.getCommandCount());
+        assertEquals(0, replay.getCommandTick(0));
+        assertEquals("F", replay.getCommand(0));
+        assertEquals(2, replay.getCommandTick(1));
+        assertEquals(10, replay.getFirstTick());
+        assertEquals(2, replay.getTickCount());
+    }
+
+    @Test
+    public void testPlaybackUsesRecordedBoardSize() throws IOException {
+        GameModel recorded = new GameModel(message -> {}, new PlayerStatsTracker(), 40, 60);
+        GameController controller = new GameController(new TestUI(), recorded,
+                achievementManager());
+        controller.startRecording(3);
+        for (int tick = 1; tick <= 50; tick++) {
+            controller.onTick(tick);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        controller.getRecording().write(bytes);
+        Replay replay = Replay.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(40, replay.getWidth());
+        assertEquals(60, replay.getHeight());
+
+        ReplayPlayer replayPlayer = new ReplayPlayer(replay);
+        replayPlayer.play();
+        GameModel played = replayPlayer.getModel();
+        assertEquals(40, played.getWidth());
+        assertEquals(60, played.getHeight());
+        assertEquals(recorded.getSpaceObjects().toString(), played.getSpaceObjects().toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPlayerRejectsModelOfAnotherSize() {
+        Replay replay = new ReplayRecorder(1, 40, 60).toReplay();
+        new ReplayPlayer(new GameModel(message -> {}, new PlayerStatsTracker()), replay);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadRejectsOtherData() throws IOException {
+        Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9}));
+    }
+}
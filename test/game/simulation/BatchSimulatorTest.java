@@ -0,0 +1,36 @@
+package game.simulation;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class BatchSimulatorTest {
+
+    @Test
+    public void testParallelMatchesSequential() {
+        BatchSimulator simulator = new BatchSimulator(new ScriptedInput("F.A.F.D."), 50_000);
+        BatchStatistics parallel = simulator.run(new ForkJoinPool(4), 100, 40);
+
+        BatchStatistics sequential = new BatchStatistics();
+        for (int seed = 100; seed < 140; seed++) {
+            sequential.record(simulator.runGame(seed));
+        }
+
+        assertEquals(40, parallel.getGames());
+        assertEquals(sequential.getTotalTicks(), parallel.getTotalTicks());
+        assertEquals(sequential.getGamesOver(), parallel.getGamesOver());
+        assertEquals(sequential.getScores().getMax(), parallel.getScores().getMax());
+        assertEquals(sequential.getSurvivalTicks().getValueAtPercentile(50),
+                parallel.getSurvivalTicks().getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        BatchStatistics statistics = new BatchSimulator(InputSource.NONE, 10).run(0, 0);
+
+        assertEquals(0, statistics.getGames());
+        assertEquals(0.0, statistics.getAccuracy(), 0.0);
+    }
+}
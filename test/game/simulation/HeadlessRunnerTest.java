@@ -0,0 +1,58 @@
+package game.simulation;
+
+import game.GameModel;
+import game.achievements.PlayerStatsTracker;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HeadlessRunnerTest {
+
+    @Test
+    public void testNullInputRunsUntilGameOver() {
+        SimulationResult result = new HeadlessRunner(InputSource.NONE, 42).run(1_000_000);
+
+        assertTrue("An idle ship is eventually destroyed", result.isGameOver());
+        assertTrue(result.getTicks() > 0);
+        assertEquals(0, result.getShotsFired());
+        assertEquals(42, result.getSeed());
+    }
+
+    @Test
+    public void testTickLimitStopsRun() {
+        SimulationResult result = new HeadlessRunner(InputSource.NONE, 1).run(5);
+
+        assertEquals(5, result.getTicks());
+        assertFalse(result.isGameOver());
+    }
+
+    @Test
+    public void testScriptedInputFiresAndMoves() {
+        HeadlessRunner runner = new HeadlessRunner(new ScriptedInput("FD"), 3);
+        SimulationResult result = runner.run(10);
+
+        assertEquals(5, result.getShotsFired());
+        assertEquals(GameModel.GAME_WIDTH - 1, runner.getModel().getShip().getX());
+    }
+
+    @Test
+    public void testSameSeedSameResult() {
+        SimulationResult first = new HeadlessRunner(new ScriptedInput("F.A.F.D."), 9).run(20_000);
+        SimulationResult second = new HeadlessRunner(new GameModel(message -> {},
+                new PlayerStatsTracker()), new ScriptedInput("F.A.F.D."), 9).run(20_000);
+
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getShotsHit(), second.getShotsHit());
+    }
+
+    @Test
+    public void testScriptIgnoresNonCommands() {
+        ScriptedInput input = new ScriptedInput("f.x");
+
+        assertEquals("F", input.commandFor(0));
+        assertNull(input.commandFor(1));
+        assertNull(input.commandFor(2));
+        assertEquals("F", input.commandFor(3));
+    }
+}